@@ -0,0 +1,114 @@
+package benchmark;
+
+import list.ArrayList;
+import list.CopyOnWriteArrayList;
+import list.List;
+import list.StampedLockList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConcurrentListBenchmark measures the thread-safe lists under a mix of reads and writes. Every operation is a read of
+ * a random index with the probability given by readPercent, and otherwise a write that sets a random index. The
+ * synchronized implementation is an ArrayList guarded by a single monitor, for reference.
+ *
+ * Run the main method of this class to sweep the thread count from 1 to 32.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentListBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32};
+
+    @Param({"CopyOnWriteArrayList", "StampedLockList", "SynchronizedArrayList"})
+    private String implementation;
+
+    @Param({"99", "90", "75", "50"})
+    private int readPercent;
+
+    @Param({"1000"})
+    private int size;
+
+    private List<Integer> list;
+    private Integer element;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        list = newList(implementation);
+        element = -1;
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public Integer readWriteMix() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(size);
+
+        if (random.nextInt(100) < readPercent) {
+            return list.get(index);
+        }
+
+        return list.set(index, element);
+    }
+
+    private static List<Integer> newList(String implementation) {
+        switch (implementation) {
+            case "CopyOnWriteArrayList":
+                return new CopyOnWriteArrayList<>();
+            case "StampedLockList":
+                return new StampedLockList<>(new ArrayList<>());
+            case "SynchronizedArrayList":
+                return new SynchronizedArrayList<>();
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder()
+                    .include(ConcurrentListBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build()).run();
+        }
+    }
+
+    /**
+     * SynchronizedArrayList is an ArrayList whose reads and writes all hold the monitor of the list.
+     */
+    private static class SynchronizedArrayList<E> extends ArrayList<E> {
+        @Override
+        public synchronized E get(int index) {
+            return super.get(index);
+        }
+
+        @Override
+        public synchronized E set(int index, E element) {
+            return super.set(index, element);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import stack.ArrayListStack;
+import stack.TreiberStack;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConcurrentStackBenchmark measures how a TreiberStack scales with the number of threads, with and without its
+ * elimination array, against an ArrayListStack guarded by a single lock. Every thread pushes an element and then pops
+ * one, so all threads contend on the top of the stack.
+ *
+ * The correctness of the stacks under contention is checked separately by ConcurrentStackStressTest.
+ *
+ * Run the main method of this class to sweep the thread count from 1 to 64.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentStackBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+    private static final int INITIAL_SIZE = 1024;
+
+    private TreiberStack<Integer> treiberStack;
+    private TreiberStack<Integer> treiberStackWithoutElimination;
+    private ArrayListStack<Integer> lockedArrayListStack;
+    private Integer element;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        treiberStack = new TreiberStack<>();
+        treiberStackWithoutElimination = new TreiberStack<>(0);
+        lockedArrayListStack = new ArrayListStack<>();
+        element = 1;
+
+        for (int i = 0; i < INITIAL_SIZE; i++) {
+            treiberStack.push(i);
+            treiberStackWithoutElimination.push(i);
+            lockedArrayListStack.push(i);
+        }
+    }
+
+    @Benchmark
+    public Integer treiberStack() {
+        treiberStack.push(element);
+
+        return treiberStack.pop();
+    }
+
+    @Benchmark
+    public Integer treiberStackWithoutElimination() {
+        treiberStackWithoutElimination.push(element);
+
+        return treiberStackWithoutElimination.pop();
+    }
+
+    @Benchmark
+    public Integer lockedArrayListStack() {
+        synchronized (lockedArrayListStack) {
+            lockedArrayListStack.push(element);
+        }
+
+        synchronized (lockedArrayListStack) {
+            return lockedArrayListStack.pop();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder()
+                    .include(ConcurrentStackBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build()).run();
+        }
+    }
+}
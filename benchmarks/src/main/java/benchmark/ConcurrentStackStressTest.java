@@ -0,0 +1,129 @@
+package benchmark;
+
+import stack.TreiberStack;
+
+import java.util.BitSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ConcurrentStackStressTest checks that a TreiberStack neither loses nor duplicates elements under contention, with
+ * and without its elimination array.
+ *
+ * Every thread pushes its own range of distinct values and pops concurrently with the other threads, recording every
+ * value it pops. Once all threads are done, the stack is drained and every value ever pushed must have been popped or
+ * drained exactly once. A narrow elimination array makes pushes and pops meet in the same slots often, so the
+ * elimination path is exercised as much as the compare-and-set on the top of the stack.
+ *
+ * Run the main method of this class; it throws an IllegalStateException on the first round that fails the check.
+ */
+public class ConcurrentStackStressTest {
+    private static final int[] THREAD_COUNTS = {2, 4, 8, 16, 32};
+    private static final int[] ELIMINATION_WIDTHS = {0, 1, 4};
+    private static final int PUSHES_PER_THREAD = 200_000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) throws InterruptedException {
+        for (int eliminationWidth : ELIMINATION_WIDTHS) {
+            for (int threads : THREAD_COUNTS) {
+                for (int round = 0; round < ROUNDS; round++) {
+                    run(eliminationWidth, threads);
+                }
+
+                System.out.println("eliminationWidth=" + eliminationWidth + " threads=" + threads + ": "
+                        + ROUNDS + " rounds passed");
+            }
+        }
+    }
+
+    private static void run(int eliminationWidth, int threadCount) throws InterruptedException {
+        TreiberStack<Integer> stack = new TreiberStack<>(eliminationWidth);
+        int[][] popped = new int[threadCount][];
+        int[] poppedCounts = new int[threadCount];
+        CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[threadCount];
+
+        for (int t = 0; t < threadCount; t++) {
+            int thread = t;
+
+            threads[t] = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                int[] values = new int[PUSHES_PER_THREAD];
+                int count = 0;
+
+                awaitQuietly(start);
+
+                for (int i = 0; i < PUSHES_PER_THREAD; i++) {
+                    stack.push(thread * PUSHES_PER_THREAD + i);
+
+                    if (random.nextBoolean()) {
+                        Integer value = stack.poll();
+
+                        if (value != null) {
+                            values[count] = value;
+                            count += 1;
+                        }
+                    }
+                }
+
+                popped[thread] = values;
+                poppedCounts[thread] = count;
+            });
+            threads[t].start();
+        }
+
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        int total = threadCount * PUSHES_PER_THREAD;
+        BitSet seen = new BitSet(total);
+
+        for (int t = 0; t < threadCount; t++) {
+            for (int i = 0; i < poppedCounts[t]; i++) {
+                record(seen, popped[t][i], eliminationWidth, threadCount);
+            }
+        }
+
+        int remaining = stack.size();
+        int drained = 0;
+
+        for (Integer value = stack.poll(); value != null; value = stack.poll()) {
+            record(seen, value, eliminationWidth, threadCount);
+            drained += 1;
+        }
+
+        if (drained != remaining) {
+            throw new IllegalStateException(describe(eliminationWidth, threadCount) + "size() reported " + remaining
+                    + " elements but " + drained + " were drained!");
+        }
+
+        if (seen.cardinality() != total) {
+            throw new IllegalStateException(describe(eliminationWidth, threadCount) + (total - seen.cardinality())
+                    + " of " + total + " pushed elements were lost!");
+        }
+    }
+
+    private static void record(BitSet seen, int value, int eliminationWidth, int threadCount) {
+        if (seen.get(value)) {
+            throw new IllegalStateException(describe(eliminationWidth, threadCount) + "element " + value
+                    + " was popped more than once!");
+        }
+
+        seen.set(value);
+    }
+
+    private static String describe(int eliminationWidth, int threadCount) {
+        return "eliminationWidth=" + eliminationWidth + " threads=" + threadCount + ": ";
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package benchmark;
+
+import list.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DequeBenchmark measures a SinglyLinkedList used as a stack at either end and as a queue, with and without deque
+ * mode. Without deque mode, popping from the tail has to walk the whole list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class DequeBenchmark {
+    @Param({"false", "true"})
+    private boolean dequeMode;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private SinglyLinkedList<Integer> list;
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        list = new SinglyLinkedList<>(dequeMode);
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        element = -1;
+    }
+
+    @Benchmark
+    public Integer stackAtHead() {
+        list.offerFirst(element);
+
+        return list.pollFirst();
+    }
+
+    @Benchmark
+    public Integer stackAtTail() {
+        list.offerLast(element);
+
+        return list.pollLast();
+    }
+
+    @Benchmark
+    public Integer queue() {
+        list.offerLast(element);
+
+        return list.pollFirst();
+    }
+}
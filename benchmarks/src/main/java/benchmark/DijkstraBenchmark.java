@@ -0,0 +1,200 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import queue.PairingHeap;
+import queue.PriorityQueue;
+import queue.Queue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DijkstraBenchmark runs single-source shortest paths over a random directed graph. The PairingHeap keeps one entry
+ * per vertex and decreases it in place, while the PriorityQueue and java.util.PriorityQueue insert a new entry for
+ * every improved distance and skip the stale entries as they are polled. Every entry packs the distance into the upper
+ * and the vertex into the lower 32 bits of a long, so all three queues order the same keys.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class DijkstraBenchmark {
+    private static final int MAXIMUM_WEIGHT = 1000;
+
+    @Param({"PairingHeap", "PriorityQueue", "JavaPriorityQueue"})
+    private String implementation;
+
+    @Param({"1000", "100000"})
+    private int vertices;
+
+    @Param({"8"})
+    private int degree;
+
+    private int[] firstEdges;
+    private int[] targets;
+    private int[] weights;
+    private long[] distances;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        firstEdges = new int[vertices + 1];
+        targets = new int[vertices * degree];
+        weights = new int[vertices * degree];
+        distances = new long[vertices];
+
+        for (int vertex = 0; vertex < vertices; vertex++) {
+            firstEdges[vertex] = vertex * degree;
+
+            for (int edge = vertex * degree; edge < (vertex + 1) * degree; edge++) {
+                targets[edge] = random.nextInt(vertices);
+                weights[edge] = 1 + random.nextInt(MAXIMUM_WEIGHT);
+            }
+        }
+
+        firstEdges[vertices] = vertices * degree;
+    }
+
+    @Benchmark
+    public long shortestPaths() {
+        if (implementation.equals("PairingHeap")) {
+            return decreaseKeyShortestPaths();
+        }
+
+        Queue<Long> queue = implementation.equals("PriorityQueue")
+                ? new PriorityQueue<>()
+                : new JavaPriorityQueue<>();
+
+        return lazyShortestPaths(queue);
+    }
+
+    private long decreaseKeyShortestPaths() {
+        PairingHeap<Long> heap = new PairingHeap<>();
+        PairingHeap.Handle<Long>[] handles = new PairingHeap.Handle[vertices];
+        long total = 0;
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[0] = 0;
+        handles[0] = heap.insert(0L);
+
+        while (!heap.isEmpty()) {
+            long entry = heap.poll();
+            int vertex = (int) entry;
+            long distance = entry >>> 32;
+
+            total += distance;
+
+            for (int edge = firstEdges[vertex]; edge < firstEdges[vertex + 1]; edge++) {
+                int target = targets[edge];
+                long candidate = distance + weights[edge];
+
+                if (candidate < distances[target]) {
+                    Long key = candidate << 32 | target;
+
+                    if (distances[target] == Long.MAX_VALUE) {
+                        handles[target] = heap.insert(key);
+                    } else {
+                        heap.decreaseKey(handles[target], key);
+                    }
+
+                    distances[target] = candidate;
+                }
+            }
+        }
+
+        return total;
+    }
+
+    private long lazyShortestPaths(Queue<Long> queue) {
+        long total = 0;
+
+        Arrays.fill(distances, Long.MAX_VALUE);
+        distances[0] = 0;
+        queue.offer(0L);
+
+        while (!queue.isEmpty()) {
+            long entry = queue.poll();
+            int vertex = (int) entry;
+            long distance = entry >>> 32;
+
+            if (distance > distances[vertex]) {
+                continue;
+            }
+
+            total += distance;
+
+            for (int edge = firstEdges[vertex]; edge < firstEdges[vertex + 1]; edge++) {
+                int target = targets[edge];
+                long candidate = distance + weights[edge];
+
+                if (candidate < distances[target]) {
+                    distances[target] = candidate;
+                    queue.offer(candidate << 32 | target);
+                }
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * JavaPriorityQueue adapts java.util.PriorityQueue to queue.Queue.
+     */
+    private static final class JavaPriorityQueue<E> implements Queue<E> {
+        private final java.util.PriorityQueue<E> queue = new java.util.PriorityQueue<>();
+
+        @Override
+        public boolean add(E element) {
+            return queue.add(element);
+        }
+
+        @Override
+        public E element() {
+            return queue.element();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return queue.isEmpty();
+        }
+
+        @Override
+        public boolean offer(E element) {
+            return queue.offer(element);
+        }
+
+        @Override
+        public E peek() {
+            return queue.peek();
+        }
+
+        @Override
+        public E poll() {
+            return queue.poll();
+        }
+
+        @Override
+        public E remove() {
+            return queue.remove();
+        }
+
+        @Override
+        public int size() {
+            return queue.size();
+        }
+    }
+}
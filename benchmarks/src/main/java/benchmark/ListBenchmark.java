@@ -0,0 +1,141 @@
+package benchmark;
+
+import list.ArrayList;
+import list.CircularLinkedList;
+import list.CursorLinkedList;
+import list.DoublyLinkedList;
+import list.IndexedArrayList;
+import list.List;
+import list.SegmentedArrayList;
+import list.SinglyLinkedList;
+import list.TieredVector;
+import list.UnrolledLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ListBenchmark measures the core operations of every list.List implementation.
+ *
+ * Positional operations target the middle of the list, which is the average case for a linked list walk. Operations
+ * that modify the list are paired with their inverse so that the size of the list stays constant across invocations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class ListBenchmark {
+    @Param({"ArrayList", "IndexedArrayList", "SinglyLinkedList", "DoublyLinkedList", "CircularLinkedList",
+            "CursorLinkedList", "UnrolledLinkedList", "SegmentedArrayList", "TieredVector"})
+    private String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+    private int middle;
+    private Integer middleElement;
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        list = newList(implementation);
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        middle = size / 2;
+        middleElement = list.get(middle);
+        element = -1;
+    }
+
+    @Benchmark
+    public List<Integer> add() {
+        List<Integer> newList = newList(implementation);
+
+        for (int i = 0; i < size; i++) {
+            newList.add(element);
+        }
+
+        return newList;
+    }
+
+    @Benchmark
+    public Integer addAtIndex() {
+        list.add(middle, element);
+
+        return list.remove(middle);
+    }
+
+    @Benchmark
+    public Integer get() {
+        return list.get(middle);
+    }
+
+    @Benchmark
+    public Integer set() {
+        return list.set(middle, middleElement);
+    }
+
+    @Benchmark
+    public Integer remove() {
+        Integer removed = list.remove(middle);
+        list.add(middle, removed);
+
+        return removed;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(middleElement);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        Iterator<Integer> iterator = list.iterator();
+
+        while (iterator.hasNext()) {
+            blackhole.consume(iterator.next());
+        }
+    }
+
+    static <E> List<E> newList(String implementation) {
+        switch (implementation) {
+            case "ArrayList":
+                return new ArrayList<>();
+            case "IndexedArrayList":
+                return new IndexedArrayList<>();
+            case "SinglyLinkedList":
+                return new SinglyLinkedList<>();
+            case "DoublyLinkedList":
+                return new DoublyLinkedList<>();
+            case "CircularLinkedList":
+                return new CircularLinkedList<>();
+            case "CursorLinkedList":
+                return new CursorLinkedList<>();
+            case "UnrolledLinkedList":
+                return new UnrolledLinkedList<>();
+            case "SegmentedArrayList":
+                return new SegmentedArrayList<>();
+            case "TieredVector":
+                return new TieredVector<>();
+            default:
+                throw new IllegalArgumentException("Unknown list implementation: " + implementation);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import queue.ArrayQueue;
+import queue.MpmcArrayQueue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MpmcQueueBenchmark measures how an MpmcArrayQueue scales with the number of threads, against an ArrayQueue guarded
+ * by a single lock. Every thread both offers and polls, so all threads contend on both ends of the queue.
+ *
+ * Run the main method of this class to sweep the thread count from 1 to 64.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MpmcQueueBenchmark {
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+
+    @Param({"1024"})
+    private int capacity;
+
+    private MpmcArrayQueue<Integer> mpmcArrayQueue;
+    private ArrayQueue<Integer> lockedArrayQueue;
+    private Integer element;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        mpmcArrayQueue = new MpmcArrayQueue<>(capacity);
+        lockedArrayQueue = new ArrayQueue<>(capacity, true);
+        element = 1;
+    }
+
+    @Benchmark
+    public Integer mpmcArrayQueue() {
+        mpmcArrayQueue.offer(element);
+
+        return mpmcArrayQueue.poll();
+    }
+
+    @Benchmark
+    public Integer lockedArrayQueue() {
+        synchronized (lockedArrayQueue) {
+            lockedArrayQueue.offer(element);
+        }
+
+        synchronized (lockedArrayQueue) {
+            return lockedArrayQueue.poll();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int threads : THREAD_COUNTS) {
+            new Runner(new OptionsBuilder()
+                    .include(MpmcQueueBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .addProfiler(GCProfiler.class)
+                    .build()).run();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package benchmark;
+
+import list.CircularLinkedList;
+import list.DoublyLinkedList;
+import list.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NodePoolBenchmark measures a churn-heavy workload, appending an element and removing the first one, on the linked
+ * lists with node pooling on and off. The gc.alloc.rate.norm result of the GC profiler shows the bytes allocated per
+ * operation, which drops to zero once the node pool is in use.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class NodePoolBenchmark {
+    @Param({"0", "64"})
+    private int nodePoolCapacity;
+
+    @Param({"1000"})
+    private int size;
+
+    private SinglyLinkedList<Integer> singlyLinkedList;
+    private DoublyLinkedList<Integer> doublyLinkedList;
+    private CircularLinkedList<Integer> circularLinkedList;
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        singlyLinkedList = new SinglyLinkedList<>(false, nodePoolCapacity);
+        doublyLinkedList = new DoublyLinkedList<>(false, nodePoolCapacity);
+        circularLinkedList = new CircularLinkedList<>(false, nodePoolCapacity);
+        element = -1;
+
+        for (int i = 0; i < size; i++) {
+            singlyLinkedList.add(i);
+            doublyLinkedList.add(i);
+            circularLinkedList.add(i);
+        }
+    }
+
+    @Benchmark
+    public Integer singlyLinkedList() {
+        singlyLinkedList.add(element);
+
+        return singlyLinkedList.removeFirst();
+    }
+
+    @Benchmark
+    public Integer doublyLinkedList() {
+        doublyLinkedList.add(element);
+
+        return doublyLinkedList.removeFirst();
+    }
+
+    @Benchmark
+    public Integer circularLinkedList() {
+        circularLinkedList.add(element);
+
+        return circularLinkedList.removeFirst();
+    }
+}
@@ -0,0 +1,85 @@
+package benchmark;
+
+import list.ArrayList;
+import list.PersistentVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PersistentVectorBenchmark compares taking an updated snapshot of a list by copying an ArrayList against deriving a
+ * new version of a PersistentVector, and compares random reads from both.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PersistentVectorBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private ArrayList<Integer> arrayList;
+    private PersistentVector<Integer> vector;
+    private int middle;
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        arrayList = new ArrayList<>(size);
+        PersistentVector.Transient<Integer> builder = PersistentVector.<Integer>empty().toTransient();
+
+        for (int i = 0; i < size; i++) {
+            arrayList.add(i);
+            builder.add(i);
+        }
+
+        vector = builder.persistent();
+        middle = size / 2;
+        element = -1;
+    }
+
+    @Benchmark
+    public ArrayList<Integer> copyArrayListAndSet() {
+        ArrayList<Integer> snapshot = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            snapshot.add(arrayList.get(i));
+        }
+
+        snapshot.set(middle, element);
+
+        return snapshot;
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vectorWith() {
+        return vector.with(middle, element);
+    }
+
+    @Benchmark
+    public PersistentVector<Integer> vectorAppend() {
+        return vector.append(element);
+    }
+
+    @Benchmark
+    public Integer arrayListGet() {
+        return arrayList.get(middle);
+    }
+
+    @Benchmark
+    public Integer vectorGet() {
+        return vector.get(middle);
+    }
+}
@@ -0,0 +1,103 @@
+package benchmark;
+
+import list.ArrayList;
+import list.IntArrayList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PrimitiveListBenchmark compares building and scanning an IntArrayList against an ArrayList of boxed Integers.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PrimitiveListBenchmark {
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private ArrayList<Integer> boxedList;
+    private IntArrayList intList;
+
+    @Setup
+    public void setUp() {
+        boxedList = new ArrayList<>();
+        intList = new IntArrayList();
+
+        for (int i = 0; i < size; i++) {
+            boxedList.add(i);
+            intList.add(i);
+        }
+    }
+
+    @Benchmark
+    public ArrayList<Integer> addBoxed() {
+        ArrayList<Integer> list = new ArrayList<>();
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public IntArrayList addPrimitive() {
+        IntArrayList list = new IntArrayList();
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+
+        return list;
+    }
+
+    @Benchmark
+    public long iterateBoxed() {
+        long sum = 0;
+        Iterator<Integer> iterator = boxedList.iterator();
+
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long iteratePrimitive() {
+        long sum = 0;
+        PrimitiveIterator.OfInt iterator = intList.iterator();
+
+        while (iterator.hasNext()) {
+            sum += iterator.nextInt();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public boolean containsBoxed() {
+        return boxedList.contains(size - 1);
+    }
+
+    @Benchmark
+    public boolean containsPrimitive() {
+        return intList.contains(size - 1);
+    }
+}
@@ -0,0 +1,91 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import stack.ArrayListStack;
+import stack.IntStack;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PrimitiveStackBenchmark compares pushing and popping unboxed values on an IntStack against boxed values on an
+ * ArrayListStack. Values outside the Integer cache are pushed, so every boxed push allocates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PrimitiveStackBenchmark {
+    private static final int OFFSET = 1_000_000;
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+
+    private IntStack intStack;
+    private ArrayListStack<Integer> boxedStack;
+    private int[] buffer;
+
+    @Setup
+    public void setUp() {
+        intStack = new IntStack(size);
+        boxedStack = new ArrayListStack<>();
+        buffer = new int[size];
+    }
+
+    @Benchmark
+    public long intStackPushPop() {
+        for (int i = 0; i < size; i++) {
+            intStack.push(OFFSET + i);
+        }
+
+        long sum = 0;
+
+        while (!intStack.empty()) {
+            sum += intStack.pop();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long intStackPushBulkPop() {
+        for (int i = 0; i < size; i++) {
+            intStack.push(OFFSET + i);
+        }
+
+        int popped = intStack.pop(buffer, size);
+        long sum = 0;
+
+        for (int i = 0; i < popped; i++) {
+            sum += buffer[i];
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long boxedStackPushPop() {
+        for (int i = 0; i < size; i++) {
+            boxedStack.push(OFFSET + i);
+        }
+
+        long sum = 0;
+
+        while (!boxedStack.empty()) {
+            sum += boxedStack.pop();
+        }
+
+        return sum;
+    }
+}
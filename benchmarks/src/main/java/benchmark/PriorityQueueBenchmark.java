@@ -0,0 +1,102 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import queue.PriorityQueue;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PriorityQueueBenchmark compares the PriorityQueue, as a binary and as a 4-ary heap, against
+ * java.util.PriorityQueue. The steady-state benchmark replaces the head of a full queue with a random element, and the
+ * bulk benchmark builds a queue from an array of random elements.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class PriorityQueueBenchmark {
+    private static final int RANDOM_ELEMENTS = 1 << 16;
+
+    @Param({"BinaryHeap", "QuaternaryHeap", "JavaPriorityQueue"})
+    private String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private PriorityQueue<Integer> priorityQueue;
+    private java.util.PriorityQueue<Integer> javaPriorityQueue;
+    private Integer[] elements;
+    private Integer[] randomElements;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+
+        elements = new Integer[size];
+        randomElements = new Integer[RANDOM_ELEMENTS];
+
+        for (int i = 0; i < size; i++) {
+            elements[i] = random.nextInt();
+        }
+
+        for (int i = 0; i < RANDOM_ELEMENTS; i++) {
+            randomElements[i] = random.nextInt();
+        }
+
+        if (implementation.equals("JavaPriorityQueue")) {
+            javaPriorityQueue = new java.util.PriorityQueue<>(Arrays.asList(elements));
+        } else {
+            priorityQueue = newPriorityQueue();
+            priorityQueue.addAll(elements);
+        }
+
+        next = 0;
+    }
+
+    @Benchmark
+    public Integer offerPoll() {
+        Integer element = randomElements[next];
+        next = (next + 1) & (RANDOM_ELEMENTS - 1);
+
+        if (priorityQueue == null) {
+            javaPriorityQueue.offer(element);
+
+            return javaPriorityQueue.poll();
+        }
+
+        priorityQueue.offer(element);
+
+        return priorityQueue.poll();
+    }
+
+    @Benchmark
+    public Object heapify() {
+        if (priorityQueue == null) {
+            return new java.util.PriorityQueue<>(Arrays.asList(elements));
+        }
+
+        PriorityQueue<Integer> queue = newPriorityQueue();
+        queue.addAll(elements);
+
+        return queue;
+    }
+
+    private PriorityQueue<Integer> newPriorityQueue() {
+        return new PriorityQueue<>(implementation.equals("BinaryHeap") ? 2 : 4, null);
+    }
+}
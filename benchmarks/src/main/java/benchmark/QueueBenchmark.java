@@ -0,0 +1,86 @@
+package benchmark;
+
+import list.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import queue.ArrayQueue;
+import queue.PriorityQueue;
+import queue.Queue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueueBenchmark measures a steady-state offer/poll cycle on every queue.Queue implementation, against the
+ * SinglyLinkedList add/removeFirst cycle that is otherwise used as a queue.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class QueueBenchmark {
+    @Param({"ArrayQueue", "PriorityQueue", "SinglyLinkedList"})
+    private String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Queue<Integer> queue;
+    private SinglyLinkedList<Integer> linkedList;
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        element = -1;
+
+        if (implementation.equals("SinglyLinkedList")) {
+            linkedList = new SinglyLinkedList<>();
+
+            for (int i = 0; i < size; i++) {
+                linkedList.add(i);
+            }
+
+            return;
+        }
+
+        queue = newQueue(implementation);
+
+        for (int i = 0; i < size; i++) {
+            queue.offer(i);
+        }
+    }
+
+    @Benchmark
+    public Integer offerPoll() {
+        if (queue == null) {
+            linkedList.add(element);
+
+            return linkedList.removeFirst();
+        }
+
+        queue.offer(element);
+
+        return queue.poll();
+    }
+
+    static <E> Queue<E> newQueue(String implementation) {
+        switch (implementation) {
+            case "ArrayQueue":
+                return new ArrayQueue<>();
+            case "PriorityQueue":
+                return new PriorityQueue<>();
+            default:
+                throw new IllegalArgumentException("Unknown queue implementation: " + implementation);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package benchmark;
+
+import list.ArrayList;
+import list.CircularLinkedList;
+import list.DoublyLinkedList;
+import list.List;
+import list.SinglyLinkedList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SortBenchmark sorts an ArrayList of random or partially sorted elements with sort and parallelSort, and, for
+ * reference, by copying the list into a java.util.ArrayList, sorting that and copying the elements back. The linked
+ * lists are sorted with their in-place merge sort.
+ *
+ * Run the main method of this class to sweep the parallelism of the common fork-join pool from 1 to 32 for
+ * parallelSort, the only implementation that depends on it.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class SortBenchmark {
+    private static final int[] PARALLELISMS = {1, 2, 4, 8, 16, 32};
+    private static final int SORTED_RUN_LENGTH = 1000;
+
+    @Param({"sort", "parallelSort", "CopyToJavaList", "SinglyLinkedList", "DoublyLinkedList", "CircularLinkedList"})
+    private String implementation;
+
+    @Param({"random", "partiallySorted"})
+    private String order;
+
+    @Param({"10000", "1000000", "10000000"})
+    private int size;
+
+    private Integer[] elements;
+    private List<Integer> list;
+
+    @Setup(Level.Trial)
+    public void setUpElements() {
+        Random random = new Random(42);
+
+        elements = new Integer[size];
+        list = newList(implementation, size);
+
+        for (int i = 0; i < size; i++) {
+            elements[i] = order.equals("random") ? random.nextInt() : i % SORTED_RUN_LENGTH + random.nextInt(10);
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setUpList() {
+        list.clear();
+
+        if (list instanceof ArrayList) {
+            ((ArrayList<Integer>) list).addAll(0, elements);
+        } else {
+            for (Integer element : elements) {
+                list.add(element);
+            }
+        }
+    }
+
+    @Benchmark
+    public List<Integer> sortList() {
+        switch (implementation) {
+            case "sort":
+                ((ArrayList<Integer>) list).sort(Comparator.naturalOrder());
+                break;
+            case "parallelSort":
+                ((ArrayList<Integer>) list).parallelSort(Comparator.naturalOrder());
+                break;
+            case "CopyToJavaList":
+                java.util.ArrayList<Integer> copy = new java.util.ArrayList<>(list.size());
+                list.forEach(copy::add);
+                copy.sort(Comparator.naturalOrder());
+
+                for (int i = 0; i < copy.size(); i++) {
+                    list.set(i, copy.get(i));
+                }
+
+                break;
+            case "SinglyLinkedList":
+                ((SinglyLinkedList<Integer>) list).sort(Comparator.naturalOrder());
+                break;
+            case "DoublyLinkedList":
+                ((DoublyLinkedList<Integer>) list).sort(Comparator.naturalOrder());
+                break;
+            case "CircularLinkedList":
+                ((CircularLinkedList<Integer>) list).sort(Comparator.naturalOrder());
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        }
+
+        return list;
+    }
+
+    private static List<Integer> newList(String implementation, int size) {
+        switch (implementation) {
+            case "SinglyLinkedList":
+                return new SinglyLinkedList<>();
+            case "DoublyLinkedList":
+                return new DoublyLinkedList<>();
+            case "CircularLinkedList":
+                return new CircularLinkedList<>();
+            default:
+                return new ArrayList<>(size);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        for (int parallelism : PARALLELISMS) {
+            new Runner(new OptionsBuilder()
+                    .include(SortBenchmark.class.getSimpleName())
+                    .param("implementation", "parallelSort")
+                    .jvmArgsAppend("-Xms4g", "-Xmx4g",
+                            "-Djava.util.concurrent.ForkJoinPool.common.parallelism=" + parallelism)
+                    .addProfiler(GCProfiler.class)
+                    .build()).run();
+        }
+    }
+}
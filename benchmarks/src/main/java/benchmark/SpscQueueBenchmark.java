@@ -0,0 +1,117 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import queue.SpscArrayQueue;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SpscQueueBenchmark measures the handoff rate between one producer thread and one consumer thread through an
+ * SpscArrayQueue. The successful offers and polls are reported separately from the attempts that found the queue full
+ * or empty.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class SpscQueueBenchmark {
+    @Param({"1024", "65536"})
+    private int capacity;
+
+    private SpscArrayQueue<Integer> queue;
+    private Integer element;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        queue = new SpscArrayQueue<>(capacity);
+        element = 1;
+    }
+
+    @Benchmark
+    @Group("handoff")
+    @GroupThreads(1)
+    public void offer(Counters counters) {
+        if (queue.offer(element)) {
+            counters.offered += 1;
+        } else {
+            counters.offerFailed += 1;
+        }
+    }
+
+    @Benchmark
+    @Group("handoff")
+    @GroupThreads(1)
+    public void poll(Counters counters, Blackhole blackhole) {
+        Integer data = queue.poll();
+
+        if (data != null) {
+            counters.polled += 1;
+            blackhole.consume(data);
+        } else {
+            counters.pollFailed += 1;
+        }
+    }
+
+    @Benchmark
+    @Group("batchedHandoff")
+    @GroupThreads(1)
+    public void fill(Counters counters) {
+        int count = queue.fill(() -> element, 64);
+
+        counters.offered += count;
+
+        if (count == 0) {
+            counters.offerFailed += 1;
+        }
+    }
+
+    @Benchmark
+    @Group("batchedHandoff")
+    @GroupThreads(1)
+    public void drain(Counters counters, Blackhole blackhole) {
+        int count = queue.drain(blackhole::consume, 64);
+
+        counters.polled += count;
+
+        if (count == 0) {
+            counters.pollFailed += 1;
+        }
+    }
+
+    /**
+     * Counters holds the per-thread operation counts that JMH reports next to the benchmark score.
+     */
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Counters {
+        public long offered;
+        public long offerFailed;
+        public long polled;
+        public long pollFailed;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            offered = 0;
+            offerFailed = 0;
+            polled = 0;
+            pollFailed = 0;
+        }
+    }
+}
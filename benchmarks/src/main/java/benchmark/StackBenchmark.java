@@ -0,0 +1,93 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import stack.ArrayListStack;
+import stack.LinkedListStack;
+import stack.Stack;
+import stack.TreiberStack;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StackBenchmark measures the core operations of every stack.Stack implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class StackBenchmark {
+    @Param({"ArrayListStack", "LinkedListStack", "TreiberStack"})
+    private String implementation;
+
+    @Param({"10", "1000", "100000", "10000000"})
+    private int size;
+
+    private Stack<Integer> stack;
+    private Integer middleElement;
+    private Integer element;
+
+    @Setup
+    public void setUp() {
+        stack = newStack(implementation);
+
+        for (int i = 0; i < size; i++) {
+            stack.push(i);
+        }
+
+        middleElement = size / 2;
+        element = -1;
+    }
+
+    @Benchmark
+    public Integer pushPop() {
+        stack.push(element);
+
+        return stack.pop();
+    }
+
+    @Benchmark
+    public Integer peek() {
+        return stack.peek();
+    }
+
+    @Benchmark
+    public int search() {
+        return stack.search(middleElement);
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+
+        for (Integer value : stack) {
+            sum += value;
+        }
+
+        return sum;
+    }
+
+    static <E> Stack<E> newStack(String implementation) {
+        switch (implementation) {
+            case "ArrayListStack":
+                return new ArrayListStack<>();
+            case "LinkedListStack":
+                return new LinkedListStack<>();
+            case "TreiberStack":
+                return new TreiberStack<>();
+            default:
+                throw new IllegalArgumentException("Unknown stack implementation: " + implementation);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package benchmark;
+
+import list.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StreamBenchmark compares a sequential and a parallel stream reduction over every list.List implementation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+@State(Scope.Thread)
+public class StreamBenchmark {
+    @Param({"ArrayList", "SinglyLinkedList", "DoublyLinkedList", "CircularLinkedList", "UnrolledLinkedList",
+            "SegmentedArrayList", "TieredVector"})
+    private String implementation;
+
+    @Param({"1000", "100000", "10000000"})
+    private int size;
+
+    private List<Integer> list;
+
+    @Setup
+    public void setUp() {
+        list = ListBenchmark.newList(implementation);
+
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    @Benchmark
+    public long sequentialSum() {
+        return list.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @Benchmark
+    public long parallelSum() {
+        return list.parallelStream().mapToLong(Integer::longValue).sum();
+    }
+}
@@ -1,7 +1,16 @@
 package list;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
  * ArrayList implements a dynamic array.
@@ -9,16 +18,52 @@ import java.util.NoSuchElementException;
  * @param <E> is the type of elements that the list will hold.
  */
 public class ArrayList<E> implements List<E>, Iterable<E> {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final double DEFAULT_GROWTH_FACTOR = 2.0;
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    private final double growthFactor;
     private int size;
     private int capacity;
+    private int modCount;
     private E[] array;
 
     /**
      * Constructs a new ArrayList.
      */
     public ArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new ArrayList that can hold the given number of elements before growing.
+     *
+     * @param initialCapacity the number of elements the list can hold before growing.
+     */
+    public ArrayList(int initialCapacity) {
+        this(initialCapacity, DEFAULT_GROWTH_FACTOR);
+    }
+
+    /**
+     * Constructs a new ArrayList that can hold the given number of elements before growing, and that multiplies its
+     * capacity by the given factor every time it grows.
+     *
+     * @param initialCapacity the number of elements the list can hold before growing.
+     * @param growthFactor    the factor by which the capacity is multiplied when the list grows.
+     */
+    public ArrayList(int initialCapacity, double growthFactor) {
+        if (initialCapacity < 0 || initialCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("The initial capacity must be between 0 and " + MAXIMUM_CAPACITY + "!");
+        }
+
+        if (!(growthFactor > 1.0)) {
+            throw new IllegalArgumentException("The growth factor must be greater than 1!");
+        }
+
+        this.growthFactor = growthFactor;
         size = 0;
-        capacity = 1;
+        capacity = initialCapacity;
         array = (E[]) new Object[capacity];
     }
 
@@ -35,11 +80,12 @@ public class ArrayList<E> implements List<E>, Iterable<E> {
         }
 
         if (size == capacity) {
-            resizeArray(capacity * 2);
+            growArray(size + 1);
         }
 
         array[size] = element;
         size += 1;
+        modCount += 1;
 
         return true;
     }
@@ -61,25 +107,81 @@ public class ArrayList<E> implements List<E>, Iterable<E> {
         }
 
         if (size == capacity) {
-            resizeArray(capacity * 2);
+            growArray(size + 1);
         }
 
-        for (int i = size - 1; i >= index; i--) {
-            array[i + 1] = array[i];
-        }
+        System.arraycopy(array, index, array, index + 1, size - index);
 
         array[index] = element;
         size += 1;
+        modCount += 1;
+    }
+
+    /**
+     * Adds all the elements of the given collection, in iteration order, at the specified index in the list. The
+     * index may be equal to the size of the list, in which case the elements are added to the end of the list.
+     *
+     * @param index    the index in the list where the first element is to be added.
+     * @param elements the elements to be added.
+     * @return true if the list changed as a result of the call.
+     */
+    public boolean addAll(int index, Collection<? extends E> elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The elements to be added cannot be null!");
+        }
+
+        return addAll(index, (E[]) elements.toArray());
     }
 
     /**
-     * Clear the entire list.
+     * Adds all the elements of the given array, in order, at the specified index in the list. The index may be equal
+     * to the size of the list, in which case the elements are added to the end of the list.
+     *
+     * @param index    the index in the list where the first element is to be added.
+     * @param elements the elements to be added.
+     * @return true if the list changed as a result of the call.
+     */
+    public boolean addAll(int index, E[] elements) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (elements == null) {
+            throw new IllegalArgumentException("The elements to be added cannot be null!");
+        }
+
+        for (E element : elements) {
+            if (element == null) {
+                throw new IllegalArgumentException("Cannot add null elements to the list!");
+            }
+        }
+
+        int count = elements.length;
+
+        if (count == 0) {
+            return false;
+        }
+
+        if (size + count > capacity) {
+            growArray(size + count);
+        }
+
+        System.arraycopy(array, index, array, index + count, size - index);
+        System.arraycopy(elements, 0, array, index, count);
+        size += count;
+        modCount += 1;
+
+        return true;
+    }
+
+    /**
+     * Clear the entire list. The backing array is kept, so refilling the list does not grow it again.
      */
     @Override
     public void clear() {
+        Arrays.fill(array, 0, size, null);
         size = 0;
-        capacity = 1;
-        array = (E[]) new Object[capacity];
+        modCount += 1;
     }
 
     /**
@@ -90,17 +192,18 @@ public class ArrayList<E> implements List<E>, Iterable<E> {
      */
     @Override
     public boolean contains(E element) {
-        if (element == null) {
-            throw new IllegalArgumentException("The element to be checked cannot be null!");
-        }
+        return indexOf(element) != -1;
+    }
 
-        for (E e : array) {
-            if (e.equals(element)) {
-                return true;
-            }
+    /**
+     * Grows the list, if necessary, so that it can hold at least the given number of elements without growing again.
+     *
+     * @param minimumCapacity the number of elements the list must be able to hold.
+     */
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > capacity) {
+            growArray(minimumCapacity);
         }
-
-        return false;
     }
 
     /**
@@ -156,7 +259,30 @@ public class ArrayList<E> implements List<E>, Iterable<E> {
      */
     @Override
     public Iterator<E> iterator() {
-        return new ArrayListIterator();
+        return new ArrayListIterator(0);
+    }
+
+    /**
+     * Return a list iterator for the list, positioned before the first element.
+     *
+     * @return a list iterator for the list.
+     */
+    public ListIterator<E> listIterator() {
+        return new ArrayListIterator(0);
+    }
+
+    /**
+     * Return a list iterator for the list, positioned before the element at the specified index.
+     *
+     * @param index the index of the first element to be returned by the list iterator.
+     * @return a list iterator for the list.
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return new ArrayListIterator(index);
     }
 
     /**
@@ -173,12 +299,11 @@ public class ArrayList<E> implements List<E>, Iterable<E> {
 
         E data = array[index];
 
-        for (int i = index + 1; i < size; i++) {
-            array[i - 1] = array[i];
-        }
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
 
         array[size - 1] = null;
         size -= 1;
+        modCount += 1;
 
         return data;
     }
@@ -205,6 +330,75 @@ public class ArrayList<E> implements List<E>, Iterable<E> {
         return false;
     }
 
+    /**
+     * Removes all the elements that satisfy the given predicate from the list, in a single pass.
+     *
+     * @param filter the predicate which returns true for the elements to be removed.
+     * @return true if any elements were removed, false otherwise.
+     */
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("The filter cannot be null!");
+        }
+
+        return compact(filter, true);
+    }
+
+    /**
+     * Removes the elements from the start index, inclusive, up to the end index, exclusive, from the list.
+     *
+     * @param fromIndex the index of the first element to be removed.
+     * @param toIndex   the index after the last element to be removed.
+     */
+    public void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        System.arraycopy(array, toIndex, array, fromIndex, size - toIndex);
+
+        int newSize = size - (toIndex - fromIndex);
+        Arrays.fill(array, newSize, size, null);
+        size = newSize;
+        modCount += 1;
+    }
+
+    /**
+     * Removes all the elements that are not contained in the given collection from the list, in a single pass.
+     *
+     * @param elements the elements to be retained.
+     * @return true if any elements were removed, false otherwise.
+     */
+    public boolean retainAll(Collection<?> elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The elements to be retained cannot be null!");
+        }
+
+        return compact(elements::contains, false);
+    }
+
+    /**
+     * Sorts the list in parallel in the common fork-join pool, with a stable merge sort that splits the list into
+     * pieces, sorts every piece with TimSort and merges the sorted pieces in parallel. Short lists, or lists in a
+     * common pool without parallelism, are sorted sequentially as by sort.
+     *
+     * @param comparator the comparator that orders the elements, or null for their natural ordering.
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+        int parallelism = ForkJoinPool.getCommonPoolParallelism();
+
+        if (size <= PARALLEL_SORT_THRESHOLD || parallelism == 1) {
+            sort(comparator);
+
+            return;
+        }
+
+        int granularity = Math.max(size / (parallelism * 4), PARALLEL_SORT_THRESHOLD);
+
+        TimSort.parallelSort(array, 0, size, orderOf(comparator), granularity);
+        modCount += 1;
+    }
+
     /**
      * Sets the value of the given index in the list to the specified element.
      *
@@ -238,6 +432,36 @@ public class ArrayList<E> implements List<E>, Iterable<E> {
         return size;
     }
 
+    /**
+     * Sorts the backing array of the list in place with a stable TimSort, which takes linear time on a list that is
+     * already sorted or made of a few sorted runs, and needs a work array of at most half the size of the list.
+     *
+     * @param comparator the comparator that orders the elements, or null for their natural ordering.
+     */
+    public void sort(Comparator<? super E> comparator) {
+        TimSort.sort(array, 0, size, orderOf(comparator));
+        modCount += 1;
+    }
+
+    /**
+     * Shrinks the capacity of the list to its current size, releasing any unused space in the backing array.
+     */
+    public void trimToSize() {
+        if (size < capacity) {
+            resizeArray(size);
+        }
+    }
+
+    /**
+     * Return a spliterator for the list that splits the backing array into index ranges.
+     *
+     * @return a spliterator for the list.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return new ArrayListSpliterator(0, -1, 0);
+    }
+
     /**
      * Return a string representation of the ArrayList.
      *
@@ -261,22 +485,92 @@ public class ArrayList<E> implements List<E>, Iterable<E> {
         return builder.toString();
     }
 
-    private void resizeArray(int newCapacity) {
-        E[] newArray = (E[]) new Object[newCapacity];
+    /**
+     * Keeps the elements for which the filter does not return removeMatches, in a single pass. If the filter throws,
+     * the elements it has not tested yet are moved down behind the kept ones, so that the list is left intact apart
+     * from the elements already removed.
+     */
+    private boolean compact(Predicate<? super E> filter, boolean removeMatches) {
+        int oldSize = size;
+        int newSize = 0;
+        int i = 0;
+
+        try {
+            for (; i < size; i++) {
+                E element = array[i];
+
+                if (filter.test(element) != removeMatches) {
+                    array[newSize] = element;
+                    newSize += 1;
+                }
+            }
+        } finally {
+            if (i < size) {
+                System.arraycopy(array, i, array, newSize, size - i);
+                newSize += size - i;
+            }
 
-        for (int i = 0; i < size; i++) {
-            newArray[i] = array[i];
+            if (newSize != size) {
+                Arrays.fill(array, newSize, size, null);
+                size = newSize;
+                modCount += 1;
+            }
+        }
+
+        return size != oldSize;
+    }
+
+    private static <E> Comparator<? super E> orderOf(Comparator<? super E> comparator) {
+        if (comparator == null) {
+            return (first, second) -> ((Comparable<? super E>) first).compareTo(second);
         }
 
-        array = newArray;
+        return comparator;
+    }
+
+    private void growArray(int minimumCapacity) {
+        if (minimumCapacity < 0 || minimumCapacity > MAXIMUM_CAPACITY) {
+            throw new OutOfMemoryError("The list cannot grow beyond " + MAXIMUM_CAPACITY + " elements!");
+        }
+
+        long grownCapacity = (long) (capacity * growthFactor);
+        int newCapacity = (int) Math.min(Math.max(grownCapacity, minimumCapacity), MAXIMUM_CAPACITY);
+
+        resizeArray(newCapacity);
+    }
+
+    private void resizeArray(int newCapacity) {
+        array = Arrays.copyOf(array, newCapacity);
         capacity = newCapacity;
     }
 
-    private class ArrayListIterator implements Iterator<E> {
+    /**
+     * ArrayListIterator is a fail-fast list iterator for ArrayList.
+     */
+    private class ArrayListIterator implements ListIterator<E> {
         private int current;
+        private int lastReturned;
+        private int expectedModCount;
+
+        private ArrayListIterator(int index) {
+            current = index;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
 
-        private ArrayListIterator() {
-            current = 0;
+        @Override
+        public void add(E element) {
+            checkForComodification();
+
+            if (current == size) {
+                ArrayList.this.add(element);
+            } else {
+                ArrayList.this.add(current, element);
+            }
+
+            current += 1;
+            lastReturned = -1;
+            expectedModCount = modCount;
         }
 
         @Override
@@ -284,16 +578,170 @@ public class ArrayList<E> implements List<E>, Iterable<E> {
             return current != size;
         }
 
+        @Override
+        public boolean hasPrevious() {
+            return current != 0;
+        }
+
         @Override
         public E next() {
+            checkForComodification();
+
             if (current >= size) {
                 throw new NoSuchElementException();
             }
 
+            lastReturned = current;
+            current += 1;
+
+            return array[lastReturned];
+        }
+
+        @Override
+        public int nextIndex() {
+            return current;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (current <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            current -= 1;
+            lastReturned = current;
+
+            return array[lastReturned];
+        }
+
+        @Override
+        public int previousIndex() {
+            return current - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            ArrayList.this.remove(lastReturned);
+
+            current = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            ArrayList.this.set(lastReturned, element);
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * ArrayListSpliterator is a fail-fast spliterator for ArrayList that splits its index range in half. The range is
+     * bound to the size of the list when the first element is traversed or the spliterator is first split.
+     */
+    private class ArrayListSpliterator implements Spliterator<E> {
+        private int current;
+        private int fence;
+        private int expectedModCount;
+
+        private ArrayListSpliterator(int origin, int fence, int expectedModCount) {
+            this.current = origin;
+            this.fence = fence;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL;
+        }
+
+        @Override
+        public long estimateSize() {
+            return getFence() - current;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) {
+                throw new IllegalArgumentException("The action cannot be null!");
+            }
+
+            int end = getFence();
+            E[] elements = array;
+
+            for (int i = current; i < end; i++) {
+                action.accept(elements[i]);
+            }
+
+            current = end;
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) {
+                throw new IllegalArgumentException("The action cannot be null!");
+            }
+
+            if (current >= getFence()) {
+                return false;
+            }
+
             E data = array[current];
             current += 1;
+            action.accept(data);
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            return true;
+        }
+
+        @Override
+        public Spliterator<E> trySplit() {
+            int end = getFence();
+            int middle = (current + end) >>> 1;
+
+            if (current >= middle) {
+                return null;
+            }
+
+            ArrayListSpliterator prefix = new ArrayListSpliterator(current, middle, expectedModCount);
+            current = middle;
+
+            return prefix;
+        }
+
+        private int getFence() {
+            if (fence < 0) {
+                fence = size;
+                expectedModCount = modCount;
+            }
 
-            return data;
+            return fence;
         }
     }
 }
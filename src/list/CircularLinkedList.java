@@ -1,6 +1,9 @@
 package list;
 
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
 /**
@@ -9,13 +12,57 @@ import java.util.NoSuchElementException;
  * @param <E> is the type of elements that the list will hold.
  */
 public class CircularLinkedList<E> implements List<E>, Iterable<E> {
+    private final boolean fingerEnabled;
+    private final int nodePoolCapacity;
     private int size;
+    private int modCount;
+    private int fingerIndex;
+    private Node<E> finger;
+    private int pooledNodes;
+    private Node<E> nodePool;
     private Node<E> sentinelHead;
 
     /**
      * Constructs a new CircularLinkedList.
      */
     public CircularLinkedList() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new CircularLinkedList that optionally caches the most recently accessed node and its index as a
+     * finger. Positional operations then walk from the finger when it is closer than either end of the list, which
+     * makes accessing the list sequentially by index take amortized constant time.
+     *
+     * With the finger enabled, get and the other positional reads move the finger, so they write to the list just like
+     * the mutators do. Threads that share the list must then give every read exclusive access, not just every write.
+     *
+     * @param fingerEnabled whether the list caches the most recently accessed node.
+     */
+    public CircularLinkedList(boolean fingerEnabled) {
+        this(fingerEnabled, 0);
+    }
+
+    /**
+     * Constructs a new CircularLinkedList that optionally caches the most recently accessed node as a finger, and that
+     * keeps up to the given number of removed nodes in a pool to reuse for the elements added later. Once the pool has
+     * filled up, a workload that adds and removes elements at the same rate no longer allocates any nodes. As with the
+     * single-argument constructor, enabling the finger makes positional reads write to the list.
+     *
+     * @param fingerEnabled    whether the list caches the most recently accessed node.
+     * @param nodePoolCapacity the maximum number of removed nodes kept for reuse, or 0 to disable pooling.
+     */
+    public CircularLinkedList(boolean fingerEnabled, int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException("The node pool capacity cannot be negative!");
+        }
+
+        this.fingerEnabled = fingerEnabled;
+        this.nodePoolCapacity = nodePoolCapacity;
+        pooledNodes = 0;
+        nodePool = null;
+        fingerIndex = -1;
+        finger = null;
         size = 0;
         sentinelHead = new Node<>(null, null, null);
         sentinelHead.previous = sentinelHead;
@@ -34,11 +81,12 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
             throw new IllegalArgumentException("Cannot add null elements to the list!");
         }
 
-        Node<E> newNode = new Node<>(element, sentinelHead.previous, sentinelHead);
+        Node<E> newNode = newNode(element, sentinelHead.previous, sentinelHead);
         newNode.previous.next = newNode;
         newNode.next.previous = newNode;
 
         size += 1;
+        modCount += 1;
 
         return true;
     }
@@ -59,17 +107,15 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
             throw new IllegalArgumentException("Cannot add null elements to the list!");
         }
 
-        Node<E> current = sentinelHead.next;
-
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
+        Node<E> current = node(index);
 
-        Node<E> newNode = new Node<>(element, current.previous, current);
+        Node<E> newNode = newNode(element, current.previous, current);
         newNode.previous.next = newNode;
         newNode.next.previous = newNode;
 
         size += 1;
+        modCount += 1;
+        fingerInserted(index);
     }
 
     /**
@@ -91,11 +137,12 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
             throw new IllegalArgumentException("Cannot add null elements to the list!");
         }
 
-        Node<E> newNode = new Node<>(element, sentinelHead.previous, sentinelHead);
+        Node<E> newNode = newNode(element, sentinelHead.previous, sentinelHead);
         newNode.previous.next = newNode;
         newNode.next.previous = newNode;
 
         size += 1;
+        modCount += 1;
     }
 
     /**
@@ -104,6 +151,9 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
     @Override
     public void clear() {
         size = 0;
+        modCount += 1;
+        fingerIndex = -1;
+        finger = null;
         sentinelHead = new Node<>(null, null, null);
         sentinelHead.previous = sentinelHead;
         sentinelHead.next = sentinelHead;
@@ -146,11 +196,7 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
             throw new IndexOutOfBoundsException();
         }
 
-        Node<E> current = sentinelHead.next;
-
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
+        Node<E> current = node(index);
 
         return current.data;
     }
@@ -223,7 +269,30 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
      */
     @Override
     public Iterator<E> iterator() {
-        return new CircularLinkedListIterator();
+        return new CircularLinkedListIterator(0);
+    }
+
+    /**
+     * Return a list iterator for the list, positioned before the first element.
+     *
+     * @return a list iterator for the list.
+     */
+    public ListIterator<E> listIterator() {
+        return new CircularLinkedListIterator(0);
+    }
+
+    /**
+     * Return a list iterator for the list, positioned before the element at the specified index.
+     *
+     * @param index the index of the first element to be returned by the list iterator.
+     * @return a list iterator for the list.
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return new CircularLinkedListIterator(index);
     }
 
     /**
@@ -238,18 +307,19 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
             throw new IndexOutOfBoundsException();
         }
 
-        Node<E> current = sentinelHead.next;
+        Node<E> current = node(index);
 
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
+        E data = current.data;
 
         current.previous.next = current.next;
         current.next.previous = current.previous;
 
         size -= 1;
+        modCount += 1;
+        fingerRemoved(index);
+        recycle(current);
 
-        return current.data;
+        return data;
     }
 
     /**
@@ -272,9 +342,14 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
                 current.next.previous = current.previous;
 
                 size -= 1;
+                modCount += 1;
+                fingerRemoved(i);
+                recycle(current);
 
                 return true;
             }
+
+            current = current.next;
         }
 
         return false;
@@ -308,9 +383,14 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
         nodeToRemove.previous.next = nodeToRemove.next;
         nodeToRemove.next.previous = nodeToRemove.previous;
 
+        E data = nodeToRemove.data;
+
         size -= 1;
+        modCount += 1;
+        fingerRemoved(size);
+        recycle(nodeToRemove);
 
-        return nodeToRemove.data;
+        return data;
     }
 
     /**
@@ -330,11 +410,7 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
             throw new IllegalArgumentException("The element to be seet cannot be null!");
         }
 
-        Node<E> current = sentinelHead.next;
-
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
+        Node<E> current = node(index);
 
         E data = current.data;
         current.data = element;
@@ -353,30 +429,337 @@ public class CircularLinkedList<E> implements List<E>, Iterable<E> {
     }
 
     /**
-     * CircularLinkedListIterator is an iterator for CircularLinkedList.
+     * Sorts the list in place with the same stable bottom-up merge sort over the next links as SinglyLinkedList, and
+     * then restores the previous links and closes the circle through the sentinel in one pass. The finger is dropped.
+     *
+     * If the comparator throws, the runs not yet merged are linked back in, so the list keeps all its elements, in an
+     * unspecified order.
+     *
+     * @param comparator the comparator that orders the elements, or null for their natural ordering.
+     */
+    public void sort(Comparator<? super E> comparator) {
+        Comparator<? super E> order = comparator != null
+                ? comparator
+                : (first, second) -> ((Comparable<? super E>) first).compareTo(second);
+
+        modCount += 1;
+        fingerIndex = -1;
+        finger = null;
+
+        if (size < 2) {
+            return;
+        }
+
+        sentinelHead.previous.next = null;
+
+        Node<E> mergedTail = sentinelHead;
+        Node<E> remaining = null;
+
+        try {
+            for (int width = 1; width < size; width *= 2) {
+                mergedTail = sentinelHead;
+                remaining = sentinelHead.next;
+
+                while (remaining != null) {
+                    Node<E> left = remaining;
+                    Node<E> right = splitAfter(left, width);
+                    remaining = splitAfter(right, width);
+                    mergedTail = mergeRuns(mergedTail, left, right, order);
+                }
+            }
+        } finally {
+            while (mergedTail.next != null) {
+                mergedTail = mergedTail.next;
+            }
+
+            mergedTail.next = remaining;
+            restoreLinks();
+        }
+    }
+
+    /**
+     * Restores the links that the merge sort does not maintain, walking the chain of next links from the sentinel.
+     */
+    private void restoreLinks() {
+        Node<E> current = sentinelHead;
+
+        while (current.next != null) {
+            current.next.previous = current;
+            current = current.next;
+        }
+
+        current.next = sentinelHead;
+        sentinelHead.previous = current;
+    }
+
+    /**
+     * Check if the list caches the most recently accessed node, in which case its positional reads write to it.
      */
-    private class CircularLinkedListIterator implements Iterator<E> {
-        private Node<E> current;
+    boolean isFingerEnabled() {
+        return fingerEnabled;
+    }
+
+    private Node<E> node(int index) {
+        int distanceFromTail = size - 1 - index;
+        Node<E> current;
+
+        if (fingerIndex >= 0 && Math.abs(index - fingerIndex) < Math.min(index, distanceFromTail)) {
+            current = finger;
+
+            for (int i = fingerIndex; i < index; i++) {
+                current = current.next;
+            }
 
-        private CircularLinkedListIterator() {
+            for (int i = fingerIndex; i > index; i--) {
+                current = current.previous;
+            }
+        } else if (index <= distanceFromTail) {
             current = sentinelHead.next;
+
+            for (int i = 0; i < index; i++) {
+                current = current.next;
+            }
+        } else {
+            current = sentinelHead.previous;
+
+            for (int i = 0; i < distanceFromTail; i++) {
+                current = current.previous;
+            }
+        }
+
+        if (fingerEnabled) {
+            finger = current;
+            fingerIndex = index;
+        }
+
+        return current;
+    }
+
+    private Node<E> newNode(E data, Node<E> previous, Node<E> next) {
+        Node<E> node = nodePool;
+
+        if (node == null) {
+            return new Node<>(data, previous, next);
+        }
+
+        nodePool = node.next;
+        pooledNodes -= 1;
+
+        node.data = data;
+        node.previous = previous;
+        node.next = next;
+
+        return node;
+    }
+
+    private void recycle(Node<E> node) {
+        if (pooledNodes == nodePoolCapacity) {
+            return;
+        }
+
+        node.data = null;
+        node.previous = null;
+        node.next = nodePool;
+        nodePool = node;
+        pooledNodes += 1;
+    }
+
+    private static <E> Node<E> splitAfter(Node<E> first, int length) {
+        Node<E> current = first;
+
+        for (int i = 1; i < length && current != null; i++) {
+            current = current.next;
+        }
+
+        if (current == null) {
+            return null;
+        }
+
+        Node<E> rest = current.next;
+        current.next = null;
+
+        return rest;
+    }
+
+    private static <E> Node<E> mergeRuns(Node<E> mergedTail, Node<E> left, Node<E> right,
+                                         Comparator<? super E> comparator) {
+        try {
+            while (left != null && right != null) {
+                if (comparator.compare(right.data, left.data) < 0) {
+                    mergedTail.next = right;
+                    right = right.next;
+                } else {
+                    mergedTail.next = left;
+                    left = left.next;
+                }
+
+                mergedTail = mergedTail.next;
+            }
+        } finally {
+            mergedTail.next = left;
+
+            while (mergedTail.next != null) {
+                mergedTail = mergedTail.next;
+            }
+
+            mergedTail.next = right;
+
+            while (mergedTail.next != null) {
+                mergedTail = mergedTail.next;
+            }
+        }
+
+        return mergedTail;
+    }
+
+    private void fingerInserted(int index) {
+        if (fingerIndex >= index) {
+            fingerIndex += 1;
+        }
+    }
+
+    private void fingerRemoved(int index) {
+        if (fingerIndex > index) {
+            fingerIndex -= 1;
+        } else if (fingerIndex == index) {
+            fingerIndex = -1;
+            finger = null;
+        }
+    }
+
+    /**
+     * CircularLinkedListIterator is a fail-fast list iterator for CircularLinkedList. Removing, replacing or adding an
+     * element at the cursor takes constant time.
+     */
+    private class CircularLinkedListIterator implements ListIterator<E> {
+        private Node<E> next;
+        private Node<E> lastReturned;
+        private int nextIndex;
+        private int expectedModCount;
+
+        private CircularLinkedListIterator(int index) {
+            next = index == size ? sentinelHead : node(index);
+            lastReturned = null;
+            nextIndex = index;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void add(E element) {
+            if (element == null) {
+                throw new IllegalArgumentException("Cannot add null elements to the list!");
+            }
+
+            checkForComodification();
+
+            Node<E> newNode = newNode(element, next.previous, next);
+            newNode.previous.next = newNode;
+            newNode.next.previous = newNode;
+
+            size += 1;
+            modCount += 1;
+            fingerInserted(nextIndex);
+
+            nextIndex += 1;
+            lastReturned = null;
+            expectedModCount = modCount;
         }
 
         @Override
         public boolean hasNext() {
-            return current != sentinelHead;
+            return next != sentinelHead;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return next.previous != sentinelHead;
         }
 
         @Override
         public E next() {
-            if (current == sentinelHead) {
+            checkForComodification();
+
+            if (next == sentinelHead) {
                 throw new NoSuchElementException();
             }
 
-            E data = current.data;
-            current = current.next;
+            lastReturned = next;
+            next = next.next;
+            nextIndex += 1;
+
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (next.previous == sentinelHead) {
+                throw new NoSuchElementException();
+            }
+
+            next = next.previous;
+            lastReturned = next;
+            nextIndex -= 1;
+
+            return lastReturned.data;
+        }
 
-            return data;
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            checkForComodification();
+
+            lastReturned.previous.next = lastReturned.next;
+            lastReturned.next.previous = lastReturned.previous;
+
+            if (next == lastReturned) {
+                next = lastReturned.next;
+            } else {
+                nextIndex -= 1;
+            }
+
+            size -= 1;
+            modCount += 1;
+            fingerRemoved(nextIndex);
+            recycle(lastReturned);
+
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            if (element == null) {
+                throw new IllegalArgumentException("The element to be set cannot be null!");
+            }
+
+            checkForComodification();
+
+            lastReturned.data = element;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         }
     }
 
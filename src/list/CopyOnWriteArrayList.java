@@ -0,0 +1,380 @@
+package list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * CopyOnWriteArrayList implements a thread-safe dynamic array for data that is read far more often than it is changed.
+ *
+ * The elements are held in an array that is never modified once it is published. Every write copies the array, makes
+ * its change to the copy and then publishes the copy through a volatile field, while holding a lock so that concurrent
+ * writes do not lose each other's changes. Reads never lock: they load the current array once and work on it, so an
+ * iterator sees the list exactly as it was when the iterator was created and never throws a
+ * ConcurrentModificationException.
+ *
+ * @param <E> is the type of elements that the list will hold.
+ */
+public class CopyOnWriteArrayList<E> implements List<E>, Iterable<E> {
+    private final Object lock;
+    private volatile E[] array;
+
+    /**
+     * Constructs a new CopyOnWriteArrayList.
+     */
+    public CopyOnWriteArrayList() {
+        lock = new Object();
+        array = (E[]) new Object[0];
+    }
+
+    /**
+     * Adds the given element to the end of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully
+     */
+    @Override
+    public boolean add(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        synchronized (lock) {
+            E[] current = array;
+            E[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = element;
+            array = copy;
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds the given element at the specified index in the list.
+     *
+     * @param index   the index in the list where the element is to be added.
+     * @param element the element to be added.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        synchronized (lock) {
+            E[] current = array;
+
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            E[] copy = (E[]) new Object[current.length + 1];
+            System.arraycopy(current, 0, copy, 0, index);
+            System.arraycopy(current, index, copy, index + 1, current.length - index);
+            copy[index] = element;
+            array = copy;
+        }
+    }
+
+    /**
+     * Adds all the given elements to the end of the list with a single copy of the backing array.
+     *
+     * @param elements the elements to be added.
+     * @return true if the list changed as a result of the call.
+     */
+    public boolean addAll(E[] elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The elements to be added cannot be null!");
+        }
+
+        for (E element : elements) {
+            if (element == null) {
+                throw new IllegalArgumentException("Cannot add null elements to the list!");
+            }
+        }
+
+        if (elements.length == 0) {
+            return false;
+        }
+
+        synchronized (lock) {
+            E[] current = array;
+            E[] copy = Arrays.copyOf(current, current.length + elements.length);
+            System.arraycopy(elements, 0, copy, current.length, elements.length);
+            array = copy;
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds the given element to the end of the list if it is not already in the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added, false if it was already in the list.
+     */
+    public boolean addIfAbsent(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        synchronized (lock) {
+            E[] current = array;
+
+            if (indexOf(current, element) != -1) {
+                return false;
+            }
+
+            E[] copy = Arrays.copyOf(current, current.length + 1);
+            copy[current.length] = element;
+            array = copy;
+        }
+
+        return true;
+    }
+
+    /**
+     * Clear the entire list.
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            array = (E[]) new Object[0];
+        }
+    }
+
+    /**
+     * Checks if the given element exists within the list.
+     *
+     * @param element the element to be checked.
+     * @return true if the element exists within the list, false otherwise.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Retrieves the element at the specified index from the list.
+     *
+     * @param index the index from which to retrieve the element.
+     * @return the element at the specified index.
+     */
+    @Override
+    public E get(int index) {
+        E[] current = array;
+
+        if (index < 0 || index >= current.length) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return current[index];
+    }
+
+    /**
+     * Retrieves the index of the given element if it exists in the list.
+     *
+     * @param element the element whose index is to be retrieved.
+     * @return the index of the given element if it exists in the list, -1 otherwise.
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be checked cannot be null!");
+        }
+
+        return indexOf(array, element);
+    }
+
+    /**
+     * Check if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return array.length == 0;
+    }
+
+    /**
+     * Return an iterator over a snapshot of the list taken when this method is called.
+     *
+     * @return an iterator for the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new CopyOnWriteArrayListIterator(array);
+    }
+
+    /**
+     * Removes the element at the specified index from the list.
+     *
+     * @param index the index in the list at which the element is to be removed.
+     * @return the element currently at the specified index before removal.
+     */
+    @Override
+    public E remove(int index) {
+        synchronized (lock) {
+            E[] current = array;
+
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            E data = current[index];
+            array = copyWithout(current, index);
+
+            return data;
+        }
+    }
+
+    /**
+     * Removes the specified element from the list.
+     *
+     * @param element the element to be removed.
+     * @return true if the element is removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be removed cannot be null!");
+        }
+
+        synchronized (lock) {
+            E[] current = array;
+            int index = indexOf(current, element);
+
+            if (index == -1) {
+                return false;
+            }
+
+            array = copyWithout(current, index);
+
+            return true;
+        }
+    }
+
+    /**
+     * Sets the value of the given index in the list to the specified element.
+     *
+     * @param index   the index at which the element is to be set.
+     * @param element the element to be set at the specified index.
+     * @return the element currently at the specified index.
+     */
+    @Override
+    public E set(int index, E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be set cannot be null!");
+        }
+
+        synchronized (lock) {
+            E[] current = array;
+
+            if (index < 0 || index >= current.length) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            E data = current[index];
+            E[] copy = current.clone();
+            copy[index] = element;
+            array = copy;
+
+            return data;
+        }
+    }
+
+    /**
+     * Get the current size of the list.
+     *
+     * @return the current size of the list.
+     */
+    @Override
+    public int size() {
+        return array.length;
+    }
+
+    /**
+     * Return a spliterator over a snapshot of the list that splits the array into index ranges.
+     *
+     * @return a spliterator for the list.
+     */
+    @Override
+    public Spliterator<E> spliterator() {
+        return Spliterators.spliterator(array, Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Return a string representation of the CopyOnWriteArrayList.
+     *
+     * @return a string representation of the CopyOnWriteArrayList.
+     */
+    @Override
+    public String toString() {
+        E[] current = array;
+
+        if (current.length == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int i = 0; i < current.length - 1; i++) {
+            builder.append(current[i]).append(", ");
+        }
+
+        builder.append(current[current.length - 1]).append("]");
+
+        return builder.toString();
+    }
+
+    private static <E> int indexOf(E[] elements, E element) {
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i].equals(element)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    private static <E> E[] copyWithout(E[] elements, int index) {
+        E[] copy = (E[]) new Object[elements.length - 1];
+        System.arraycopy(elements, 0, copy, 0, index);
+        System.arraycopy(elements, index + 1, copy, index, elements.length - index - 1);
+
+        return copy;
+    }
+
+    /**
+     * CopyOnWriteArrayListIterator is an iterator over a snapshot of a CopyOnWriteArrayList.
+     */
+    private class CopyOnWriteArrayListIterator implements Iterator<E> {
+        private final E[] snapshot;
+        private int current;
+
+        private CopyOnWriteArrayListIterator(E[] snapshot) {
+            this.snapshot = snapshot;
+            current = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != snapshot.length;
+        }
+
+        @Override
+        public E next() {
+            if (current >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+
+            E data = snapshot[current];
+            current += 1;
+
+            return data;
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * CursorLinkedList implements a doubly linked list without node objects.
+ *
+ * The elements live in an array, and the links between them in two parallel int arrays that hold the slot of the next
+ * and previous element, so the list costs no object header or reference per element and a traversal reads through
+ * three flat arrays. Slot 0 is a sentinel that links the two ends of the list into a ring. The slots of removed
+ * elements are chained into a free list through the next array and reused by later insertions.
+ *
+ * An element never moves to another slot while it is in the list, so its slot serves as a stable handle: the handle
+ * methods insert after or before a known element, or unlink it, in constant time, no matter how the list has changed
+ * around it. A handle becomes invalid once its element is removed, and its slot may then be reused for another element.
+ *
+ * @param <E> is the type of elements that the list will hold.
+ */
+public class CursorLinkedList<E> implements List<E>, Iterable<E> {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+    private static final int SENTINEL = 0;
+
+    private int size;
+    private int modCount;
+    private int freeHead;
+    private int unusedSlot;
+    private E[] elements;
+    private int[] next;
+    private int[] previous;
+
+    /**
+     * Constructs a new CursorLinkedList.
+     */
+    public CursorLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new CursorLinkedList that can hold the given number of elements before growing.
+     *
+     * @param initialCapacity the number of elements the list can hold before growing.
+     */
+    public CursorLinkedList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity >= MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("The initial capacity must be less than " + MAXIMUM_CAPACITY + "!");
+        }
+
+        elements = (E[]) new Object[initialCapacity + 1];
+        next = new int[initialCapacity + 1];
+        previous = new int[initialCapacity + 1];
+        reset();
+    }
+
+    /**
+     * Adds the given element to the end of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully
+     */
+    @Override
+    public boolean add(E element) {
+        linkBefore(SENTINEL, element);
+
+        return true;
+    }
+
+    /**
+     * Adds the given element at the specified index in the list.
+     *
+     * @param index   the index in the list where the element is to be added.
+     * @param element the element to be added.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        linkBefore(slot(index), element);
+    }
+
+    /**
+     * Clear the entire list. The arrays are kept, so refilling the list does not grow them again.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(elements, null);
+        modCount += 1;
+        reset();
+    }
+
+    /**
+     * Checks if the given element exists within the list.
+     *
+     * @param element the element to be checked.
+     * @return true if the element exists within the list, false otherwise.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Retrieves the element with the given handle.
+     *
+     * @param handle the handle of the element.
+     * @return the element with the given handle.
+     */
+    public E elementAt(int handle) {
+        checkHandle(handle);
+
+        return elements[handle];
+    }
+
+    /**
+     * Returns the handle of the first element of the list.
+     *
+     * @return the handle of the first element, or -1 if the list is empty.
+     */
+    public int firstHandle() {
+        return toHandle(next[SENTINEL]);
+    }
+
+    /**
+     * Retrieves the element at the specified index from the list.
+     *
+     * @param index the index from which to retrieve the element.
+     * @return the element at the specified index.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return elements[slot(index)];
+    }
+
+    /**
+     * Retrieves the index of the given element if it exists in the list.
+     *
+     * @param element the element whose index is to be retrieved.
+     * @return the index of the given element if it exists in the list, -1 otherwise.
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be checked cannot be null!");
+        }
+
+        int index = 0;
+
+        for (int current = next[SENTINEL]; current != SENTINEL; current = next[current]) {
+            if (elements[current].equals(element)) {
+                return index;
+            }
+
+            index += 1;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Inserts the given element right after the element with the given handle.
+     *
+     * @param handle  the handle of the element after which the element is to be inserted.
+     * @param element the element to be inserted.
+     * @return the handle of the inserted element.
+     */
+    public int insertAfter(int handle, E element) {
+        checkHandle(handle);
+
+        return linkBefore(next[handle], element);
+    }
+
+    /**
+     * Inserts the given element right before the element with the given handle.
+     *
+     * @param handle  the handle of the element before which the element is to be inserted.
+     * @param element the element to be inserted.
+     * @return the handle of the inserted element.
+     */
+    public int insertBefore(int handle, E element) {
+        checkHandle(handle);
+
+        return linkBefore(handle, element);
+    }
+
+    /**
+     * Inserts the given element at the beginning of the list.
+     *
+     * @param element the element to be inserted.
+     * @return the handle of the inserted element.
+     */
+    public int insertFirst(E element) {
+        return linkBefore(next[SENTINEL], element);
+    }
+
+    /**
+     * Inserts the given element at the end of the list.
+     *
+     * @param element the element to be inserted.
+     * @return the handle of the inserted element.
+     */
+    public int insertLast(E element) {
+        return linkBefore(SENTINEL, element);
+    }
+
+    /**
+     * Check if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator for the list.
+     *
+     * @return an iterator for the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new CursorLinkedListIterator();
+    }
+
+    /**
+     * Returns the handle of the last element of the list.
+     *
+     * @return the handle of the last element, or -1 if the list is empty.
+     */
+    public int lastHandle() {
+        return toHandle(previous[SENTINEL]);
+    }
+
+    /**
+     * Returns the handle of the element after the element with the given handle.
+     *
+     * @param handle the handle of an element in the list.
+     * @return the handle of the next element, or -1 if the given element is the last one.
+     */
+    public int nextHandle(int handle) {
+        checkHandle(handle);
+
+        return toHandle(next[handle]);
+    }
+
+    /**
+     * Returns the handle of the element before the element with the given handle.
+     *
+     * @param handle the handle of an element in the list.
+     * @return the handle of the previous element, or -1 if the given element is the first one.
+     */
+    public int previousHandle(int handle) {
+        checkHandle(handle);
+
+        return toHandle(previous[handle]);
+    }
+
+    /**
+     * Removes the element at the specified index from the list.
+     *
+     * @param index the index in the list at which the element is to be removed.
+     * @return the element currently at the specified index before removal.
+     */
+    @Override
+    public E remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return unlinkSlot(slot(index));
+    }
+
+    /**
+     * Removes the specified element from the list.
+     *
+     * @param element the element to be removed.
+     * @return true if the element is removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be removed cannot be null!");
+        }
+
+        for (int current = next[SENTINEL]; current != SENTINEL; current = next[current]) {
+            if (elements[current].equals(element)) {
+                unlinkSlot(current);
+
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets the value of the given index in the list to the specified element.
+     *
+     * @param index   the index at which the element is to be set.
+     * @param element the element to be set at the specified index.
+     * @return the element currently at the specified index.
+     */
+    @Override
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return setAt(slot(index), element);
+    }
+
+    /**
+     * Replaces the element with the given handle, which keeps its handle.
+     *
+     * @param handle  the handle of the element to be replaced.
+     * @param element the element to be set in its place.
+     * @return the element that was replaced.
+     */
+    public E setAt(int handle, E element) {
+        checkHandle(handle);
+
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be set cannot be null!");
+        }
+
+        E data = elements[handle];
+        elements[handle] = element;
+
+        return data;
+    }
+
+    /**
+     * Get the current size of the list.
+     *
+     * @return the current size of the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a string representation of the CursorLinkedList.
+     *
+     * @return a string representation of the CursorLinkedList.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int current = next[SENTINEL]; next[current] != SENTINEL; current = next[current]) {
+            builder.append(elements[current]).append(", ");
+        }
+
+        builder.append(elements[previous[SENTINEL]]).append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Removes the element with the given handle from the list in constant time.
+     *
+     * @param handle the handle of the element to be removed.
+     * @return the element that was removed.
+     */
+    public E unlink(int handle) {
+        checkHandle(handle);
+
+        return unlinkSlot(handle);
+    }
+
+    private void reset() {
+        size = 0;
+        freeHead = SENTINEL;
+        unusedSlot = 1;
+        next[SENTINEL] = SENTINEL;
+        previous[SENTINEL] = SENTINEL;
+    }
+
+    /**
+     * Returns the slot of the element at the given index, walking from whichever end of the list is closer.
+     */
+    private int slot(int index) {
+        int current;
+
+        if (index < size / 2) {
+            current = next[SENTINEL];
+
+            for (int i = 0; i < index; i++) {
+                current = next[current];
+            }
+        } else {
+            current = previous[SENTINEL];
+
+            for (int i = size - 1; i > index; i--) {
+                current = previous[current];
+            }
+        }
+
+        return current;
+    }
+
+    private int linkBefore(int slot, E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        int newSlot = allocateSlot();
+        int before = previous[slot];
+
+        elements[newSlot] = element;
+        next[newSlot] = slot;
+        previous[newSlot] = before;
+        next[before] = newSlot;
+        previous[slot] = newSlot;
+
+        size += 1;
+        modCount += 1;
+
+        return newSlot;
+    }
+
+    private int allocateSlot() {
+        if (freeHead != SENTINEL) {
+            int slot = freeHead;
+            freeHead = next[slot];
+
+            return slot;
+        }
+
+        if (unusedSlot == elements.length) {
+            growArrays();
+        }
+
+        int slot = unusedSlot;
+        unusedSlot += 1;
+
+        return slot;
+    }
+
+    private E unlinkSlot(int slot) {
+        E data = elements[slot];
+
+        next[previous[slot]] = next[slot];
+        previous[next[slot]] = previous[slot];
+
+        elements[slot] = null;
+        next[slot] = freeHead;
+        freeHead = slot;
+
+        size -= 1;
+        modCount += 1;
+
+        return data;
+    }
+
+    private void growArrays() {
+        if (elements.length == MAXIMUM_CAPACITY) {
+            throw new OutOfMemoryError("The list cannot grow beyond " + (MAXIMUM_CAPACITY - 1) + " elements!");
+        }
+
+        int newLength = (int) Math.min(Math.max(2L * elements.length, 2L), MAXIMUM_CAPACITY);
+
+        elements = Arrays.copyOf(elements, newLength);
+        next = Arrays.copyOf(next, newLength);
+        previous = Arrays.copyOf(previous, newLength);
+    }
+
+    private void checkHandle(int handle) {
+        if (handle <= SENTINEL || handle >= unusedSlot || elements[handle] == null) {
+            throw new IllegalArgumentException("The handle does not refer to an element in the list!");
+        }
+    }
+
+    private static int toHandle(int slot) {
+        return slot == SENTINEL ? -1 : slot;
+    }
+
+    /**
+     * CursorLinkedListIterator is a fail-fast iterator for CursorLinkedList.
+     */
+    private class CursorLinkedListIterator implements Iterator<E> {
+        private int current;
+        private int lastReturned;
+        private int expectedModCount;
+
+        private CursorLinkedListIterator() {
+            current = next[SENTINEL];
+            lastReturned = SENTINEL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != SENTINEL;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (current == SENTINEL) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = current;
+            current = next[current];
+
+            return elements[lastReturned];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == SENTINEL) {
+                throw new IllegalStateException();
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            unlinkSlot(lastReturned);
+
+            lastReturned = SENTINEL;
+            expectedModCount = modCount;
+        }
+    }
+}
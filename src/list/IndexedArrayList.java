@@ -0,0 +1,489 @@
+package list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * IndexedArrayList implements a dynamic array with a hash index from every distinct element to its first position, so
+ * that contains, indexOf and remove(E) take expected constant time instead of scanning the list.
+ *
+ * The index is an open-addressing hash table with linear probing that records, for every distinct element, the lowest
+ * index at which it occurs and the number of times it occurs. Adding to the end of the list only touches the entry of
+ * the added element. Adding or removing in the middle already shifts every later element, and the positions recorded
+ * for the shifted elements are updated in the same pass. Removing the first occurrence of an element that occurs more
+ * than once has to look for its next occurrence, which takes linear time.
+ *
+ * @param <E> is the type of elements that the list will hold.
+ */
+public class IndexedArrayList<E> implements List<E>, Iterable<E> {
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MINIMUM_INDEX_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int size;
+    private int modCount;
+    private E[] array;
+    private int distinctElements;
+    private Object[] keys;
+    private int[] firstPositions;
+    private int[] counts;
+
+    /**
+     * Constructs a new IndexedArrayList.
+     */
+    public IndexedArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new IndexedArrayList that can hold the given number of elements before growing.
+     *
+     * @param initialCapacity the number of elements the list can hold before growing.
+     */
+    public IndexedArrayList(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("The initial capacity must be between 0 and " + MAXIMUM_CAPACITY + "!");
+        }
+
+        size = 0;
+        array = (E[]) new Object[initialCapacity];
+        allocateIndex(indexCapacityFor(initialCapacity));
+    }
+
+    /**
+     * Adds the given element to the end of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully
+     */
+    @Override
+    public boolean add(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        if (size == array.length) {
+            growArray(size + 1);
+        }
+
+        array[size] = element;
+        indexAdded(element, size);
+        size += 1;
+        modCount += 1;
+
+        return true;
+    }
+
+    /**
+     * Adds the given element at the specified index in the list.
+     *
+     * @param index   the index in the list where the element is to be added.
+     * @param element the element to be added.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        if (size == array.length) {
+            growArray(size + 1);
+        }
+
+        for (int i = size - 1; i >= index; i--) {
+            int slot = slotOf(array[i]);
+
+            if (firstPositions[slot] == i) {
+                firstPositions[slot] = i + 1;
+            }
+        }
+
+        System.arraycopy(array, index, array, index + 1, size - index);
+
+        array[index] = element;
+        indexAdded(element, index);
+        size += 1;
+        modCount += 1;
+    }
+
+    /**
+     * Clear the entire list.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(array, 0, size, null);
+        size = 0;
+        modCount += 1;
+        allocateIndex(MINIMUM_INDEX_CAPACITY);
+    }
+
+    /**
+     * Checks if the given element exists within the list.
+     *
+     * @param element the element to be checked.
+     * @return true if the element exists within the list, false otherwise.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Retrieves the element at the specified index from the list.
+     *
+     * @param index the index from which to retrieve the element.
+     * @return the element at the specified index.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return array[index];
+    }
+
+    /**
+     * Retrieves the index of the given element if it exists in the list.
+     *
+     * @param element the element whose index is to be retrieved.
+     * @return the index of the given element if it exists in the list, -1 otherwise.
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be checked cannot be null!");
+        }
+
+        int slot = slotOf(element);
+
+        return slot == -1 ? -1 : firstPositions[slot];
+    }
+
+    /**
+     * Check if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator for the list.
+     *
+     * @return an iterator for the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new IndexedArrayListIterator();
+    }
+
+    /**
+     * Removes the element at the specified index from the list.
+     *
+     * @param index the index in the list at which the element is to be removed.
+     * @return the element currently at the specified index before removal.
+     */
+    @Override
+    public E remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        E data = array[index];
+        indexRemoved(data, index);
+
+        for (int i = index + 1; i < size; i++) {
+            int slot = slotOf(array[i]);
+
+            if (firstPositions[slot] == i) {
+                firstPositions[slot] = i - 1;
+            }
+        }
+
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+
+        size -= 1;
+        array[size] = null;
+        modCount += 1;
+
+        return data;
+    }
+
+    /**
+     * Removes the specified element from the list.
+     *
+     * @param element the element to be removed.
+     * @return true if the element is removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+
+        if (index == -1) {
+            return false;
+        }
+
+        remove(index);
+
+        return true;
+    }
+
+    /**
+     * Sets the value of the given index in the list to the specified element.
+     *
+     * @param index   the index at which the element is to be set.
+     * @param element the element to be set at the specified index.
+     * @return the element currently at the specified index.
+     */
+    @Override
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be set cannot be null!");
+        }
+
+        E data = array[index];
+
+        if (!data.equals(element)) {
+            indexRemoved(data, index);
+            indexAdded(element, index);
+        }
+
+        array[index] = element;
+
+        return data;
+    }
+
+    /**
+     * Get the current size of the list.
+     *
+     * @return the current size of the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a string representation of the IndexedArrayList.
+     *
+     * @return a string representation of the IndexedArrayList.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int i = 0; i < size - 1; i++) {
+            builder.append(array[i]).append(", ");
+        }
+
+        builder.append(array[size - 1]).append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Records in the index that the given element now also occurs at the given position.
+     */
+    private void indexAdded(E element, int position) {
+        int mask = keys.length - 1;
+        int slot = hash(element) & mask;
+
+        while (keys[slot] != null) {
+            if (keys[slot].equals(element)) {
+                counts[slot] += 1;
+                firstPositions[slot] = Math.min(firstPositions[slot], position);
+
+                return;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = element;
+        firstPositions[slot] = position;
+        counts[slot] = 1;
+        distinctElements += 1;
+
+        if (distinctElements * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Records in the index that the given element no longer occurs at the given position. Must be called before the
+     * later elements are shifted, while the array still holds the element at the given position.
+     */
+    private void indexRemoved(E element, int position) {
+        int slot = slotOf(element);
+
+        counts[slot] -= 1;
+
+        if (counts[slot] == 0) {
+            deleteSlot(slot);
+        } else if (firstPositions[slot] == position) {
+            int next = position + 1;
+
+            while (!array[next].equals(element)) {
+                next += 1;
+            }
+
+            firstPositions[slot] = next;
+        }
+    }
+
+    private int slotOf(Object element) {
+        int mask = keys.length - 1;
+        int slot = hash(element) & mask;
+
+        while (keys[slot] != null) {
+            if (keys[slot].equals(element)) {
+                return slot;
+            }
+
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Empties the given slot, and moves back any later entries of the same probe run that could no longer be found
+     * with the slot empty.
+     */
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int empty = slot;
+        int current = slot;
+
+        keys[empty] = null;
+        distinctElements -= 1;
+
+        while (true) {
+            current = (current + 1) & mask;
+
+            if (keys[current] == null) {
+                return;
+            }
+
+            int home = hash(keys[current]) & mask;
+
+            if (((current - home) & mask) >= ((current - empty) & mask)) {
+                keys[empty] = keys[current];
+                firstPositions[empty] = firstPositions[current];
+                counts[empty] = counts[current];
+                keys[current] = null;
+                empty = current;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        Object[] oldKeys = keys;
+        int[] oldFirstPositions = firstPositions;
+        int[] oldCounts = counts;
+
+        allocateIndex(newCapacity);
+
+        int mask = newCapacity - 1;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                int slot = hash(oldKeys[i]) & mask;
+
+                while (keys[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+
+                keys[slot] = oldKeys[i];
+                firstPositions[slot] = oldFirstPositions[i];
+                counts[slot] = oldCounts[i];
+                distinctElements += 1;
+            }
+        }
+    }
+
+    private void allocateIndex(int capacity) {
+        distinctElements = 0;
+        keys = new Object[capacity];
+        firstPositions = new int[capacity];
+        counts = new int[capacity];
+    }
+
+    private void growArray(int minimumCapacity) {
+        if (minimumCapacity < 0 || minimumCapacity > MAXIMUM_CAPACITY) {
+            throw new OutOfMemoryError("The list cannot grow beyond " + MAXIMUM_CAPACITY + " elements!");
+        }
+
+        int newCapacity = (int) Math.min(Math.max(2L * array.length, minimumCapacity), MAXIMUM_CAPACITY);
+
+        array = Arrays.copyOf(array, newCapacity);
+    }
+
+    private static int indexCapacityFor(int elements) {
+        int capacity = MINIMUM_INDEX_CAPACITY;
+
+        while (capacity < 2L * elements && capacity < 1 << 30) {
+            capacity <<= 1;
+        }
+
+        return capacity;
+    }
+
+    private static int hash(Object element) {
+        int h = element.hashCode() * 0x9E3779B9;
+
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * IndexedArrayListIterator is a fail-fast iterator for IndexedArrayList.
+     */
+    private class IndexedArrayListIterator implements Iterator<E> {
+        private int current;
+        private final int expectedModCount;
+
+        private IndexedArrayListIterator() {
+            current = 0;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (current >= size) {
+                throw new NoSuchElementException();
+            }
+
+            E data = array[current];
+            current += 1;
+
+            return data;
+        }
+    }
+}
@@ -0,0 +1,357 @@
+package list;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.LongConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * LongArrayList implements a dynamic array of unboxed long values.
+ */
+public class LongArrayList {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int size;
+    private long[] array;
+
+    /**
+     * Constructs a new LongArrayList.
+     */
+    public LongArrayList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new LongArrayList that can hold the given number of elements before growing.
+     *
+     * @param initialCapacity the number of elements the list can hold before growing.
+     */
+    public LongArrayList(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity cannot be negative!");
+        }
+
+        size = 0;
+        array = new long[initialCapacity];
+    }
+
+    /**
+     * Adds the given element to the end of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully
+     */
+    public boolean add(long element) {
+        if (size == array.length) {
+            resizeArray(size + 1);
+        }
+
+        array[size] = element;
+        size += 1;
+
+        return true;
+    }
+
+    /**
+     * Adds the given element at the specified index in the list.
+     *
+     * @param index   the index in the list where the element is to be added.
+     * @param element the element to be added.
+     */
+    public void add(int index, long element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (size == array.length) {
+            resizeArray(size + 1);
+        }
+
+        System.arraycopy(array, index, array, index + 1, size - index);
+
+        array[index] = element;
+        size += 1;
+    }
+
+    /**
+     * Adds all the given elements to the end of the list.
+     *
+     * @param elements the elements to be added.
+     * @return true if the list changed as a result of the call.
+     */
+    public boolean addAll(long[] elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The elements to be added cannot be null!");
+        }
+
+        if (size + elements.length > array.length) {
+            resizeArray(size + elements.length);
+        }
+
+        System.arraycopy(elements, 0, array, size, elements.length);
+        size += elements.length;
+
+        return elements.length != 0;
+    }
+
+    /**
+     * Clear the entire list.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Checks if the given element exists within the list.
+     *
+     * @param element the element to be checked.
+     * @return true if the element exists within the list, false otherwise.
+     */
+    public boolean contains(long element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Performs the given action for each element of the list, in order.
+     *
+     * @param action the action to be performed for each element.
+     */
+    public void forEach(LongConsumer action) {
+        if (action == null) {
+            throw new IllegalArgumentException("The action cannot be null!");
+        }
+
+        for (int i = 0; i < size; i++) {
+            action.accept(array[i]);
+        }
+    }
+
+    /**
+     * Retrieves the element at the specified index from the list.
+     *
+     * @param index the index from which to retrieve the element.
+     * @return the element at the specified index.
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return array[index];
+    }
+
+    /**
+     * Retrieves the index of the given element if it exists in the list.
+     *
+     * @param element the element whose index is to be retrieved.
+     * @return the index of the given element if it exists in the list, -1 otherwise.
+     */
+    public int indexOf(long element) {
+        for (int i = 0; i < size; i++) {
+            if (array[i] == element) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Check if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator for the list.
+     *
+     * @return an iterator for the list.
+     */
+    public PrimitiveIterator.OfLong iterator() {
+        return new LongArrayListIterator();
+    }
+
+    /**
+     * Removes the element at the specified index from the list.
+     *
+     * @param index the index in the list at which the element is to be removed.
+     * @return the element currently at the specified index before removal.
+     */
+    public long remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        long data = array[index];
+
+        System.arraycopy(array, index + 1, array, index, size - index - 1);
+        size -= 1;
+
+        return data;
+    }
+
+    /**
+     * Removes the first occurrence of the specified element from the list.
+     *
+     * @param element the element to be removed.
+     * @return true if the element is removed successfully, false otherwise.
+     */
+    public boolean removeElement(long element) {
+        int index = indexOf(element);
+
+        if (index == -1) {
+            return false;
+        }
+
+        remove(index);
+
+        return true;
+    }
+
+    /**
+     * Sets the value of the given index in the list to the specified element.
+     *
+     * @param index   the index at which the element is to be set.
+     * @param element the element to be set at the specified index.
+     * @return the element currently at the specified index.
+     */
+    public long set(int index, long element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        long data = array[index];
+        array[index] = element;
+
+        return data;
+    }
+
+    /**
+     * Get the current size of the list.
+     *
+     * @return the current size of the list.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a spliterator for the list that splits the backing array into index ranges.
+     *
+     * @return a spliterator for the list.
+     */
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(array, 0, size, Spliterator.ORDERED);
+    }
+
+    /**
+     * Return a sequential stream over the elements of the list.
+     *
+     * @return a sequential stream over the elements of the list.
+     */
+    public LongStream stream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * Return a parallel stream over the elements of the list.
+     *
+     * @return a parallel stream over the elements of the list.
+     */
+    public LongStream parallelStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * Return an array containing all the elements of the list, in order.
+     *
+     * @return an array containing all the elements of the list.
+     */
+    public long[] toArray() {
+        return Arrays.copyOf(array, size);
+    }
+
+    /**
+     * Copy all the elements of the list, in order, into the given array starting at index 0.
+     *
+     * @param destination the array into which the elements are to be copied.
+     * @return the given array.
+     */
+    public long[] toArray(long[] destination) {
+        if (destination == null || destination.length < size) {
+            throw new IllegalArgumentException("The destination array must be able to hold every element!");
+        }
+
+        System.arraycopy(array, 0, destination, 0, size);
+
+        return destination;
+    }
+
+    /**
+     * Return a string representation of the LongArrayList.
+     *
+     * @return a string representation of the LongArrayList.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int i = 0; i < size - 1; i++) {
+            builder.append(array[i]).append(", ");
+        }
+
+        builder.append(array[size - 1]).append("]");
+
+        return builder.toString();
+    }
+
+    private void resizeArray(int minimumCapacity) {
+        int newCapacity = Math.max(array.length * 2, minimumCapacity);
+
+        if (newCapacity < 0) {
+            newCapacity = Integer.MAX_VALUE - 8;
+        }
+
+        array = Arrays.copyOf(array, newCapacity);
+    }
+
+    /**
+     * LongArrayListIterator is an iterator for LongArrayList.
+     */
+    private class LongArrayListIterator implements PrimitiveIterator.OfLong {
+        private int current;
+
+        private LongArrayListIterator() {
+            current = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != size;
+        }
+
+        @Override
+        public long nextLong() {
+            if (current >= size) {
+                throw new NoSuchElementException();
+            }
+
+            long data = array[current];
+            current += 1;
+
+            return data;
+        }
+    }
+}
@@ -0,0 +1,514 @@
+package list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * PersistentVector implements an immutable list that shares structure between versions.
+ *
+ * The elements are stored in a 32-way trie with a separate tail buffer of up to 32 elements, in the manner of the
+ * Clojure and Scala vectors. Appending to or replacing an element in a vector returns a new vector in O(log32 n) time
+ * by copying only the path from the root to the changed leaf, and every other node is shared with the original vector.
+ * A Transient can be used to build a vector in bulk by mutating nodes in place before it is frozen into a vector.
+ *
+ * @param <E> is the type of elements that the list will hold.
+ */
+public final class PersistentVector<E> implements ReadableList<E>, Iterable<E> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY =
+            new PersistentVector<>(0, BITS, new Node(null, new Object[WIDTH]), new Object[0]);
+
+    private final int size;
+    private final int shift;
+    private final Node root;
+    private final Object[] tail;
+
+    private PersistentVector(int size, int shift, Node root, Object[] tail) {
+        this.size = size;
+        this.shift = shift;
+        this.root = root;
+        this.tail = tail;
+    }
+
+    /**
+     * Return the empty PersistentVector.
+     *
+     * @param <E> the type of elements that the vector will hold.
+     * @return the empty PersistentVector.
+     */
+    public static <E> PersistentVector<E> empty() {
+        return (PersistentVector<E>) EMPTY;
+    }
+
+    /**
+     * Return a PersistentVector holding the given elements, in order.
+     *
+     * @param elements the elements of the vector.
+     * @param <E>      the type of elements that the vector will hold.
+     * @return a PersistentVector holding the given elements.
+     */
+    public static <E> PersistentVector<E> of(Iterable<? extends E> elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The elements cannot be null!");
+        }
+
+        Transient<E> builder = PersistentVector.<E>empty().toTransient();
+
+        for (E element : elements) {
+            builder.add(element);
+        }
+
+        return builder.persistent();
+    }
+
+    /**
+     * Return a new vector with the given element added to the end.
+     *
+     * @param element the element to be added.
+     * @return a new vector with the given element added to the end.
+     */
+    public PersistentVector<E> append(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the vector!");
+        }
+
+        if (size - tailOffset(size) < WIDTH) {
+            Object[] newTail = Arrays.copyOf(tail, tail.length + 1);
+            newTail[tail.length] = element;
+
+            return new PersistentVector<>(size + 1, shift, root, newTail);
+        }
+
+        Node tailNode = new Node(null, tail);
+        Node newRoot;
+        int newShift = shift;
+
+        if ((size >>> BITS) > (1 << shift)) {
+            newRoot = new Node(null, new Object[WIDTH]);
+            newRoot.array[0] = root;
+            newRoot.array[1] = newPath(null, shift, tailNode);
+            newShift += BITS;
+        } else {
+            newRoot = pushTail(size, shift, root, tailNode);
+        }
+
+        return new PersistentVector<>(size + 1, newShift, newRoot, new Object[]{element});
+    }
+
+    /**
+     * Checks if the given element exists within the vector.
+     *
+     * @param element the element to be checked.
+     * @return true if the element exists within the vector, false otherwise.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Retrieves the element at the specified index from the vector.
+     *
+     * @param index the index from which to retrieve the element.
+     * @return the element at the specified index.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return (E) leafFor(index)[index & MASK];
+    }
+
+    /**
+     * Retrieves the index of the given element if it exists in the vector.
+     *
+     * @param element the element whose index is to be retrieved.
+     * @return the index of the given element if it exists in the vector, -1 otherwise.
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be checked cannot be null!");
+        }
+
+        for (int start = 0; start < size; start += WIDTH) {
+            Object[] leaf = leafFor(start);
+            int length = Math.min(WIDTH, size - start);
+
+            for (int i = 0; i < length; i++) {
+                if (leaf[i].equals(element)) {
+                    return start + i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Check if the vector is empty.
+     *
+     * @return true if the vector is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator for the vector.
+     *
+     * @return an iterator for the vector.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new PersistentVectorIterator();
+    }
+
+    /**
+     * Get the size of the vector.
+     *
+     * @return the size of the vector.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a transient copy of the vector for bulk updates. The vector itself is left unchanged.
+     *
+     * @return a transient copy of the vector.
+     */
+    public Transient<E> toTransient() {
+        return new Transient<>(this);
+    }
+
+    /**
+     * Return a string representation of the PersistentVector.
+     *
+     * @return a string representation of the PersistentVector.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (E element : this) {
+            builder.append(element).append(", ");
+        }
+
+        builder.setLength(builder.length() - 2);
+        builder.append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Return a new vector with the element at the given index replaced by the specified element. The index may be
+     * equal to the size of the vector, in which case the element is appended.
+     *
+     * @param index   the index at which the element is to be set.
+     * @param element the element to be set at the specified index.
+     * @return a new vector with the element at the given index replaced.
+     */
+    public PersistentVector<E> with(int index, E element) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be set cannot be null!");
+        }
+
+        if (index == size) {
+            return append(element);
+        }
+
+        if (index >= tailOffset(size)) {
+            Object[] newTail = tail.clone();
+            newTail[index & MASK] = element;
+
+            return new PersistentVector<>(size, shift, root, newTail);
+        }
+
+        return new PersistentVector<>(size, shift, assoc(null, shift, root, index, element), tail);
+    }
+
+    private Object[] leafFor(int index) {
+        if (index >= tailOffset(size)) {
+            return tail;
+        }
+
+        Node node = root;
+
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Node) node.array[(index >>> level) & MASK];
+        }
+
+        return node.array;
+    }
+
+    private static int tailOffset(int size) {
+        if (size < WIDTH) {
+            return 0;
+        }
+
+        return ((size - 1) >>> BITS) << BITS;
+    }
+
+    private static Node editable(Object owner, Node node) {
+        if (owner != null && node.owner == owner) {
+            return node;
+        }
+
+        return new Node(owner, node.array.clone());
+    }
+
+    private static Node newPath(Object owner, int level, Node node) {
+        if (level == 0) {
+            return node;
+        }
+
+        Node path = new Node(owner, new Object[WIDTH]);
+        path.array[0] = newPath(owner, level - BITS, node);
+
+        return path;
+    }
+
+    private static Node pushTail(int size, int level, Node parent, Node tailNode) {
+        Object owner = tailNode.owner;
+        int subIndex = ((size - 1) >>> level) & MASK;
+        Node result = editable(owner, parent);
+        Node nodeToInsert;
+
+        if (level == BITS) {
+            nodeToInsert = tailNode;
+        } else {
+            Node child = (Node) parent.array[subIndex];
+            nodeToInsert = child != null
+                    ? pushTail(size, level - BITS, child, tailNode)
+                    : newPath(owner, level - BITS, tailNode);
+        }
+
+        result.array[subIndex] = nodeToInsert;
+
+        return result;
+    }
+
+    private static Node assoc(Object owner, int level, Node node, int index, Object element) {
+        Node result = editable(owner, node);
+
+        if (level == 0) {
+            result.array[index & MASK] = element;
+        } else {
+            int subIndex = (index >>> level) & MASK;
+            result.array[subIndex] = assoc(owner, level - BITS, (Node) node.array[subIndex], index, element);
+        }
+
+        return result;
+    }
+
+    /**
+     * Transient is a mutable builder for a PersistentVector. Nodes created by a transient are updated in place, and
+     * nodes shared with an existing vector are copied the first time they are updated. A transient can no longer be
+     * used once it has been frozen into a vector by persistent.
+     *
+     * @param <E> is the type of elements that the vector will hold.
+     */
+    public static final class Transient<E> {
+        private Object owner;
+        private int size;
+        private int shift;
+        private Node root;
+        private Object[] tail;
+
+        private Transient(PersistentVector<E> vector) {
+            owner = new Object();
+            size = vector.size;
+            shift = vector.shift;
+            root = new Node(owner, vector.root.array.clone());
+            tail = Arrays.copyOf(vector.tail, WIDTH);
+        }
+
+        /**
+         * Adds the given element to the end of the vector being built.
+         *
+         * @param element the element to be added.
+         * @return this transient.
+         */
+        public Transient<E> add(E element) {
+            ensureValid();
+
+            if (element == null) {
+                throw new IllegalArgumentException("Cannot add null elements to the vector!");
+            }
+
+            if (size - tailOffset(size) < WIDTH) {
+                tail[size & MASK] = element;
+                size += 1;
+
+                return this;
+            }
+
+            Node tailNode = new Node(owner, tail);
+            tail = new Object[WIDTH];
+            tail[0] = element;
+
+            if ((size >>> BITS) > (1 << shift)) {
+                Node newRoot = new Node(owner, new Object[WIDTH]);
+                newRoot.array[0] = root;
+                newRoot.array[1] = newPath(owner, shift, tailNode);
+                root = newRoot;
+                shift += BITS;
+            } else {
+                root = pushTail(size, shift, root, tailNode);
+            }
+
+            size += 1;
+
+            return this;
+        }
+
+        /**
+         * Retrieves the element at the specified index from the vector being built.
+         *
+         * @param index the index from which to retrieve the element.
+         * @return the element at the specified index.
+         */
+        public E get(int index) {
+            ensureValid();
+
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            if (index >= tailOffset(size)) {
+                return (E) tail[index & MASK];
+            }
+
+            Node node = root;
+
+            for (int level = shift; level > 0; level -= BITS) {
+                node = (Node) node.array[(index >>> level) & MASK];
+            }
+
+            return (E) node.array[index & MASK];
+        }
+
+        /**
+         * Freezes the transient into a PersistentVector. The transient cannot be used afterwards.
+         *
+         * @return a PersistentVector holding the elements of the transient.
+         */
+        public PersistentVector<E> persistent() {
+            ensureValid();
+
+            owner = null;
+
+            return new PersistentVector<>(size, shift, root, Arrays.copyOf(tail, size - tailOffset(size)));
+        }
+
+        /**
+         * Sets the value of the given index in the vector being built to the specified element.
+         *
+         * @param index   the index at which the element is to be set.
+         * @param element the element to be set at the specified index.
+         * @return this transient.
+         */
+        public Transient<E> set(int index, E element) {
+            ensureValid();
+
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+
+            if (element == null) {
+                throw new IllegalArgumentException("The element to be set cannot be null!");
+            }
+
+            if (index >= tailOffset(size)) {
+                tail[index & MASK] = element;
+            } else {
+                root = assoc(owner, shift, root, index, element);
+            }
+
+            return this;
+        }
+
+        /**
+         * Get the size of the vector being built.
+         *
+         * @return the size of the vector being built.
+         */
+        public int size() {
+            ensureValid();
+
+            return size;
+        }
+
+        private void ensureValid() {
+            if (owner == null) {
+                throw new IllegalStateException("The transient has already been made persistent!");
+            }
+        }
+    }
+
+    /**
+     * PersistentVectorIterator is an iterator for PersistentVector that walks the vector one leaf at a time.
+     */
+    private class PersistentVectorIterator implements Iterator<E> {
+        private int current;
+        private Object[] leaf;
+
+        private PersistentVectorIterator() {
+            current = 0;
+            leaf = size > 0 ? leafFor(0) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current < size;
+        }
+
+        @Override
+        public E next() {
+            if (current >= size) {
+                throw new NoSuchElementException();
+            }
+
+            if (current > 0 && (current & MASK) == 0) {
+                leaf = leafFor(current);
+            }
+
+            E data = (E) leaf[current & MASK];
+            current += 1;
+
+            return data;
+        }
+    }
+
+    /**
+     * Node represents an internal node or a leaf of the trie. A node may only be updated in place by the transient
+     * that owns it.
+     */
+    private static final class Node {
+        private final Object owner;
+        private final Object[] array;
+
+        private Node(Object owner, Object[] array) {
+            this.owner = owner;
+            this.array = array;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package list;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface ReadableList<E> extends Iterable<E> {
+    boolean contains(E element);
+
+    E get(int index);
+
+    int indexOf(E element);
+
+    boolean isEmpty();
+
+    Iterator<E> iterator();
+
+    int size();
+
+    /**
+     * Return a spliterator for the list. The default spliterator knows the size of the list and splits off batches of
+     * elements that it copies out of the iterator, which suits lists without random access.
+     *
+     * @return a spliterator for the list.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Return a sequential stream over the elements of the list.
+     *
+     * @return a sequential stream over the elements of the list.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Return a parallel stream over the elements of the list.
+     *
+     * @return a parallel stream over the elements of the list.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+}
@@ -0,0 +1,372 @@
+package list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * SegmentedArrayList implements a dynamic array that stores its elements in fixed-size chunks.
+ *
+ * The chunks are indexed by a spine array, and the list grows by allocating a new chunk, so the elements already in
+ * the list are never copied. Only the spine, which holds one reference per chunk, is copied when it fills up. This
+ * keeps very large lists free of long copy pauses and of the temporary memory spike of a single backing array being
+ * doubled.
+ *
+ * @param <E> is the type of elements that the list will hold.
+ */
+public class SegmentedArrayList<E> implements List<E>, Iterable<E> {
+    private static final int DEFAULT_CHUNK_SHIFT = 10;
+
+    private final int chunkShift;
+    private final int chunkMask;
+    private int size;
+    private int chunkCount;
+    private int modCount;
+    private E[][] spine;
+
+    /**
+     * Constructs a new SegmentedArrayList with chunks of 1024 elements.
+     */
+    public SegmentedArrayList() {
+        this(DEFAULT_CHUNK_SHIFT);
+    }
+
+    /**
+     * Constructs a new SegmentedArrayList with chunks of 2 to the power of the given shift elements.
+     *
+     * @param chunkShift the base 2 logarithm of the number of elements in a chunk.
+     */
+    public SegmentedArrayList(int chunkShift) {
+        if (chunkShift < 1 || chunkShift > 24) {
+            throw new IllegalArgumentException("The chunk shift must be between 1 and 24!");
+        }
+
+        this.chunkShift = chunkShift;
+        this.chunkMask = (1 << chunkShift) - 1;
+        size = 0;
+        chunkCount = 0;
+        spine = (E[][]) new Object[1][];
+    }
+
+    /**
+     * Adds the given element to the end of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully
+     */
+    @Override
+    public boolean add(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        ensureChunkFor(size);
+
+        spine[size >>> chunkShift][size & chunkMask] = element;
+        size += 1;
+        modCount += 1;
+
+        return true;
+    }
+
+    /**
+     * Adds the given element at the specified index in the list. Every later element is shifted by one position, one
+     * chunk at a time.
+     *
+     * @param index   the index in the list where the element is to be added.
+     * @param element the element to be added.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        ensureChunkFor(size);
+
+        int chunkIndex = index >>> chunkShift;
+        int lastChunkIndex = size >>> chunkShift;
+
+        for (int c = lastChunkIndex; c > chunkIndex; c--) {
+            E[] chunk = spine[c];
+            int end = c == lastChunkIndex ? size & chunkMask : chunkMask;
+
+            System.arraycopy(chunk, 0, chunk, 1, end);
+            chunk[0] = spine[c - 1][chunkMask];
+        }
+
+        E[] chunk = spine[chunkIndex];
+        int offset = index & chunkMask;
+        int end = chunkIndex == lastChunkIndex ? size & chunkMask : chunkMask;
+
+        System.arraycopy(chunk, offset, chunk, offset + 1, end - offset);
+        chunk[offset] = element;
+
+        size += 1;
+        modCount += 1;
+    }
+
+    /**
+     * Clear the entire list and release all of its chunks.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+        chunkCount = 0;
+        modCount += 1;
+        spine = (E[][]) new Object[1][];
+    }
+
+    /**
+     * Checks if the given element exists within the list.
+     *
+     * @param element the element to be checked.
+     * @return true if the element exists within the list, false otherwise.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Retrieves the element at the specified index from the list.
+     *
+     * @param index the index from which to retrieve the element.
+     * @return the element at the specified index.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return spine[index >>> chunkShift][index & chunkMask];
+    }
+
+    /**
+     * Retrieves the index of the given element if it exists in the list.
+     *
+     * @param element the element whose index is to be retrieved.
+     * @return the index of the given element if it exists in the list, -1 otherwise.
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be checked cannot be null!");
+        }
+
+        for (int start = 0; start < size; start += chunkMask + 1) {
+            E[] chunk = spine[start >>> chunkShift];
+            int length = Math.min(chunkMask + 1, size - start);
+
+            for (int i = 0; i < length; i++) {
+                if (chunk[i].equals(element)) {
+                    return start + i;
+                }
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Check if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator for the list.
+     *
+     * @return an iterator for the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new SegmentedArrayListIterator();
+    }
+
+    /**
+     * Removes the element at the specified index from the list. Every later element is shifted by one position, one
+     * chunk at a time.
+     *
+     * @param index the index in the list at which the element is to be removed.
+     * @return the element currently at the specified index before removal.
+     */
+    @Override
+    public E remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int chunkIndex = index >>> chunkShift;
+        int lastIndex = size - 1;
+        int lastChunkIndex = lastIndex >>> chunkShift;
+
+        E[] chunk = spine[chunkIndex];
+        int offset = index & chunkMask;
+        int end = chunkIndex == lastChunkIndex ? lastIndex & chunkMask : chunkMask;
+        E data = chunk[offset];
+
+        System.arraycopy(chunk, offset + 1, chunk, offset, end - offset);
+
+        for (int c = chunkIndex + 1; c <= lastChunkIndex; c++) {
+            E[] nextChunk = spine[c];
+            chunk[chunkMask] = nextChunk[0];
+
+            end = c == lastChunkIndex ? lastIndex & chunkMask : chunkMask;
+            System.arraycopy(nextChunk, 1, nextChunk, 0, end);
+            chunk = nextChunk;
+        }
+
+        spine[lastChunkIndex][lastIndex & chunkMask] = null;
+        size -= 1;
+        modCount += 1;
+
+        return data;
+    }
+
+    /**
+     * Removes the specified element from the list.
+     *
+     * @param element the element to be removed.
+     * @return true if the element is removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+
+        if (index == -1) {
+            return false;
+        }
+
+        remove(index);
+
+        return true;
+    }
+
+    /**
+     * Sets the value of the given index in the list to the specified element.
+     *
+     * @param index   the index at which the element is to be set.
+     * @param element the element to be set at the specified index.
+     * @return the element currently at the specified index.
+     */
+    @Override
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be set cannot be null!");
+        }
+
+        E[] chunk = spine[index >>> chunkShift];
+        E data = chunk[index & chunkMask];
+        chunk[index & chunkMask] = element;
+
+        return data;
+    }
+
+    /**
+     * Get the current size of the list.
+     *
+     * @return the current size of the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Releases the chunks that no longer hold any elements, and shrinks the spine to the chunks still in use.
+     */
+    public void trimToSize() {
+        int usedChunks = (size + chunkMask) >>> chunkShift;
+
+        Arrays.fill(spine, usedChunks, chunkCount, null);
+        chunkCount = usedChunks;
+        spine = Arrays.copyOf(spine, Math.max(1, usedChunks));
+    }
+
+    /**
+     * Return a string representation of the SegmentedArrayList.
+     *
+     * @return a string representation of the SegmentedArrayList.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int i = 0; i < size - 1; i++) {
+            builder.append(get(i)).append(", ");
+        }
+
+        builder.append(get(size - 1)).append("]");
+
+        return builder.toString();
+    }
+
+    private void ensureChunkFor(int index) {
+        int chunkIndex = index >>> chunkShift;
+
+        if (chunkIndex < chunkCount) {
+            return;
+        }
+
+        if (chunkIndex == spine.length) {
+            spine = Arrays.copyOf(spine, spine.length * 2);
+        }
+
+        spine[chunkIndex] = (E[]) new Object[chunkMask + 1];
+        chunkCount += 1;
+    }
+
+    /**
+     * SegmentedArrayListIterator is a fail-fast iterator for SegmentedArrayList.
+     */
+    private class SegmentedArrayListIterator implements Iterator<E> {
+        private int current;
+        private final int expectedModCount;
+
+        private SegmentedArrayListIterator() {
+            current = 0;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (current >= size) {
+                throw new NoSuchElementException();
+            }
+
+            E data = spine[current >>> chunkShift][current & chunkMask];
+            current += 1;
+
+            return data;
+        }
+    }
+}
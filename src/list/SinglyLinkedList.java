@@ -1,15 +1,27 @@
 package list;
 
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
 import java.util.Iterator;
+import java.util.ListIterator;
 import java.util.NoSuchElementException;
 
 /**
  * SinglyLinkedList implements a singly linked list.
  *
+ * In deque mode every node also keeps a link to its predecessor, so that the list can be walked and shrunk from the
+ * tail as well. Removing the last element then takes constant time, which makes the first/last methods an O(1)
+ * stack, queue and deque all at once.
+ *
  * @param <E> is the type of elements that the list will hold.
  */
 public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
+    private final boolean dequeMode;
+    private final int nodePoolCapacity;
     private int size;
+    private int modCount;
+    private int pooledNodes;
+    private Node<E> nodePool;
     private Node<E> sentinelHead;
     private Node<E> tail;
 
@@ -17,6 +29,38 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
      * Constructs a new SinglyLinkedList.
      */
     public SinglyLinkedList() {
+        this(false);
+    }
+
+    /**
+     * Constructs a new SinglyLinkedList that optionally runs in deque mode. In deque mode every node also links back
+     * to its predecessor, which makes removeLast and pollLast take constant time, and lets positional operations walk
+     * from the tail when it is closer. Every node has room for the link whether or not deque mode is on, so the mode
+     * costs no extra memory, and outside deque mode the link is simply left null.
+     *
+     * @param dequeMode whether every node also links back to its predecessor.
+     */
+    public SinglyLinkedList(boolean dequeMode) {
+        this(dequeMode, 0);
+    }
+
+    /**
+     * Constructs a new SinglyLinkedList that optionally runs in deque mode, and that keeps up to the given number of
+     * removed nodes in a pool to reuse for the elements added later. Once the pool has filled up, a workload that adds
+     * and removes elements at the same rate no longer allocates any nodes.
+     *
+     * @param dequeMode        whether every node also links back to its predecessor.
+     * @param nodePoolCapacity the maximum number of removed nodes kept for reuse, or 0 to disable pooling.
+     */
+    public SinglyLinkedList(boolean dequeMode, int nodePoolCapacity) {
+        if (nodePoolCapacity < 0) {
+            throw new IllegalArgumentException("The node pool capacity cannot be negative!");
+        }
+
+        this.dequeMode = dequeMode;
+        this.nodePoolCapacity = nodePoolCapacity;
+        pooledNodes = 0;
+        nodePool = null;
         size = 0;
         sentinelHead = new Node<>(null, null);
         tail = sentinelHead;
@@ -34,10 +78,7 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
             throw new IllegalArgumentException("Cannot add null elements to the list!");
         }
 
-        tail.next = new Node<>(element, null);
-        tail = tail.next;
-
-        size += 1;
+        linkAfter(tail, element);
 
         return true;
     }
@@ -58,15 +99,7 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
             throw new IllegalArgumentException("Cannot add null elements to the list!");
         }
 
-        Node<E> current = sentinelHead;
-
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
-
-        current.next = new Node<>(element, current.next);
-
-        size += 1;
+        linkAfter(nodeBefore(index), element);
     }
 
     /**
@@ -79,8 +112,7 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
             throw new IllegalArgumentException("Cannot add null elements to the list!");
         }
 
-        sentinelHead.next = new Node<>(element, sentinelHead.next);
-        size += 1;
+        linkAfter(sentinelHead, element);
     }
 
     /**
@@ -93,11 +125,7 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
             throw new IllegalArgumentException("Cannot add null elements to the list!");
         }
 
-        Node<E> newNode = new Node<>(element, null);
-        tail.next = newNode;
-        tail = newNode;
-
-        size += 1;
+        linkAfter(tail, element);
     }
 
     /**
@@ -106,6 +134,7 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
     @Override
     public void clear() {
         size = 0;
+        modCount += 1;
         sentinelHead = new Node<>(null, null);
         tail = sentinelHead;
     }
@@ -147,13 +176,7 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
             throw new IndexOutOfBoundsException();
         }
 
-        Node<E> current = sentinelHead.next;
-
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
-
-        return current.data;
+        return nodeBefore(index).next.data;
     }
 
     /**
@@ -224,7 +247,91 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
      */
     @Override
     public Iterator<E> iterator() {
-        return new SinglyLinkedListIterator();
+        return new SinglyLinkedListIterator(0);
+    }
+
+    /**
+     * Return a list iterator for the list, positioned before the first element.
+     *
+     * @return a list iterator for the list.
+     */
+    public ListIterator<E> listIterator() {
+        return new SinglyLinkedListIterator(0);
+    }
+
+    /**
+     * Return a list iterator for the list, positioned before the element at the specified index.
+     *
+     * @param index the index of the first element to be returned by the list iterator.
+     * @return a list iterator for the list.
+     */
+    public ListIterator<E> listIterator(int index) {
+        if (index < 0 || index > size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        return new SinglyLinkedListIterator(index);
+    }
+
+    /**
+     * Adds the given element to the beginning of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully.
+     */
+    public boolean offerFirst(E element) {
+        addFirst(element);
+
+        return true;
+    }
+
+    /**
+     * Adds the given element to the end of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully.
+     */
+    public boolean offerLast(E element) {
+        addLast(element);
+
+        return true;
+    }
+
+    /**
+     * Retrieves the first element of the list, if there is one.
+     *
+     * @return the first element of the list, or null if the list is empty.
+     */
+    public E peekFirst() {
+        return size == 0 ? null : sentinelHead.next.data;
+    }
+
+    /**
+     * Retrieves the last element of the list, if there is one.
+     *
+     * @return the last element of the list, or null if the list is empty.
+     */
+    public E peekLast() {
+        return size == 0 ? null : tail.data;
+    }
+
+    /**
+     * Removes the first element from the list, if there is one.
+     *
+     * @return the element currently first in the list, or null if the list is empty.
+     */
+    public E pollFirst() {
+        return size == 0 ? null : unlinkAfter(sentinelHead);
+    }
+
+    /**
+     * Removes the last element from the list, if there is one. Like removeLast, this takes constant time only in deque
+     * mode.
+     *
+     * @return the element currently last in the list, or null if the list is empty.
+     */
+    public E pollLast() {
+        return size == 0 ? null : unlinkAfter(nodeBefore(size - 1));
     }
 
     /**
@@ -239,22 +346,7 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
             throw new IndexOutOfBoundsException();
         }
 
-        Node<E> current = sentinelHead;
-
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
-
-        E data = current.next.data;
-        current.next = current.next.next;
-
-        if (index == size - 1) {
-            tail = current;
-        }
-
-        size -= 1;
-
-        return data;
+        return unlinkAfter(nodeBefore(index));
     }
 
     /**
@@ -273,15 +365,12 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
 
         for (int i = 0; i < size; i++) {
             if (current.next.data.equals(element)) {
-                if (current.next == tail) {
-                    tail = current;
-                }
-
-                current.next = current.next.next;
-                size -= 1;
+                unlinkAfter(current);
 
                 return true;
             }
+
+            current = current.next;
         }
 
         return false;
@@ -297,11 +386,12 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
             throw new NoSuchElementException();
         }
 
-        return remove(0);
+        return unlinkAfter(sentinelHead);
     }
 
     /**
-     * Removes the last element from the list.
+     * Removes the last element from the list. This takes constant time in deque mode, and has to walk the whole list
+     * to find the predecessor of the last element otherwise.
      *
      * @return the element currently last in the list.
      */
@@ -310,7 +400,7 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
             throw new NoSuchElementException();
         }
 
-        return remove(size - 1);
+        return unlinkAfter(nodeBefore(size - 1));
     }
 
     /**
@@ -330,12 +420,7 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
             throw new IllegalArgumentException("The element to be set cannot be null!");
         }
 
-        Node<E> current = sentinelHead.next;
-
-        for (int i = 0; i < index; i++) {
-            current = current.next;
-        }
-
+        Node<E> current = nodeBefore(index).next;
         E data = current.data;
         current.data = element;
 
@@ -353,41 +438,355 @@ public class SinglyLinkedList<E> implements List<E>, Iterable<E> {
     }
 
     /**
-     * SinglyLinkedListIterator is an iterator for SinglyLinkedList.
+     * Sorts the list in place with a stable bottom-up merge sort. The sort relinks the existing nodes instead of moving
+     * the elements, allocates no nodes and needs constant extra memory, and merges sorted runs of doubling length in
+     * O(log n) passes over the list, so it takes O(n log n) time without recursion. A last pass finds the new tail,
+     * and in deque mode also restores the links back to the predecessors.
+     *
+     * If the comparator throws, the runs not yet merged are linked back in, so the list keeps all its elements, in an
+     * unspecified order.
+     *
+     * @param comparator the comparator that orders the elements, or null for their natural ordering.
+     */
+    public void sort(Comparator<? super E> comparator) {
+        Comparator<? super E> order = comparator != null
+                ? comparator
+                : (first, second) -> ((Comparable<? super E>) first).compareTo(second);
+
+        modCount += 1;
+
+        if (size < 2) {
+            return;
+        }
+
+        Node<E> mergedTail = sentinelHead;
+        Node<E> remaining = null;
+
+        try {
+            for (int width = 1; width < size; width *= 2) {
+                mergedTail = sentinelHead;
+                remaining = sentinelHead.next;
+
+                while (remaining != null) {
+                    Node<E> left = remaining;
+                    Node<E> right = splitAfter(left, width);
+                    remaining = splitAfter(right, width);
+                    mergedTail = mergeRuns(mergedTail, left, right, order);
+                }
+            }
+        } finally {
+            while (mergedTail.next != null) {
+                mergedTail = mergedTail.next;
+            }
+
+            mergedTail.next = remaining;
+            restoreLinks();
+        }
+    }
+
+    /**
+     * Restores the links that the merge sort does not maintain, walking the chain of next links from the sentinel.
+     */
+    private void restoreLinks() {
+        Node<E> current = sentinelHead;
+
+        while (current.next != null) {
+            if (dequeMode) {
+                current.next.previous = current;
+            }
+
+            current = current.next;
+        }
+
+        tail = current;
+    }
+
+    /**
+     * Returns the node before the element at the given index, which is the sentinel head for index 0. In deque mode
+     * the list is walked backwards from the tail when the tail is closer.
      */
-    private class SinglyLinkedListIterator implements Iterator<E> {
-        private Node<E> current;
+    private Node<E> nodeBefore(int index) {
+        if (dequeMode && index > size / 2) {
+            Node<E> current = tail;
+
+            for (int i = size; i > index; i--) {
+                current = current.previous;
+            }
+
+            return current;
+        }
+
+        Node<E> current = sentinelHead;
+
+        for (int i = 0; i < index; i++) {
+            current = current.next;
+        }
+
+        return current;
+    }
+
+    private void linkAfter(Node<E> previous, E element) {
+        Node<E> newNode = newNode(element, previous.next);
+        previous.next = newNode;
+
+        if (previous == tail) {
+            tail = newNode;
+        }
+
+        if (dequeMode) {
+            newNode.previous = previous;
 
-        private SinglyLinkedListIterator() {
-            current = sentinelHead.next;
+            if (newNode.next != null) {
+                newNode.next.previous = newNode;
+            }
+        }
+
+        size += 1;
+        modCount += 1;
+    }
+
+    private E unlinkAfter(Node<E> previous) {
+        Node<E> nodeToRemove = previous.next;
+        previous.next = nodeToRemove.next;
+
+        if (nodeToRemove == tail) {
+            tail = previous;
+        }
+
+        if (dequeMode && previous.next != null) {
+            previous.next.previous = previous;
+        }
+
+        E data = nodeToRemove.data;
+
+        size -= 1;
+        modCount += 1;
+        recycle(nodeToRemove);
+
+        return data;
+    }
+
+    private Node<E> newNode(E data, Node<E> next) {
+        Node<E> node = nodePool;
+
+        if (node == null) {
+            return new Node<>(data, next);
+        }
+
+        nodePool = node.next;
+        pooledNodes -= 1;
+
+        node.data = data;
+        node.next = next;
+
+        return node;
+    }
+
+    private void recycle(Node<E> node) {
+        if (pooledNodes == nodePoolCapacity) {
+            return;
+        }
+
+        node.data = null;
+        node.previous = null;
+        node.next = nodePool;
+        nodePool = node;
+        pooledNodes += 1;
+    }
+
+    /**
+     * Cuts the chain after the given number of nodes from the given node, and returns the rest of the chain.
+     */
+    private static <E> Node<E> splitAfter(Node<E> first, int length) {
+        Node<E> current = first;
+
+        for (int i = 1; i < length && current != null; i++) {
+            current = current.next;
+        }
+
+        if (current == null) {
+            return null;
+        }
+
+        Node<E> rest = current.next;
+        current.next = null;
+
+        return rest;
+    }
+
+    /**
+     * Merges two sorted chains after the given node, taking from the left chain on ties so that the merge is stable,
+     * and returns the last node of the merged chain.
+     */
+    private static <E> Node<E> mergeRuns(Node<E> mergedTail, Node<E> left, Node<E> right,
+                                         Comparator<? super E> comparator) {
+        try {
+            while (left != null && right != null) {
+                if (comparator.compare(right.data, left.data) < 0) {
+                    mergedTail.next = right;
+                    right = right.next;
+                } else {
+                    mergedTail.next = left;
+                    left = left.next;
+                }
+
+                mergedTail = mergedTail.next;
+            }
+        } finally {
+            mergedTail.next = left;
+
+            while (mergedTail.next != null) {
+                mergedTail = mergedTail.next;
+            }
+
+            mergedTail.next = right;
+
+            while (mergedTail.next != null) {
+                mergedTail = mergedTail.next;
+            }
+        }
+
+        return mergedTail;
+    }
+
+    /**
+     * SinglyLinkedListIterator is a fail-fast list iterator for SinglyLinkedList. Removing, replacing or adding an
+     * element at the cursor takes constant time. Moving backwards has to walk from the head of the list, so previous
+     * takes linear time unless the list is in deque mode.
+     */
+    private class SinglyLinkedListIterator implements ListIterator<E> {
+        private Node<E> previous;
+        private Node<E> lastReturned;
+        private Node<E> lastReturnedPrevious;
+        private int nextIndex;
+        private int expectedModCount;
+
+        private SinglyLinkedListIterator(int index) {
+            previous = nodeBefore(index);
+            lastReturned = null;
+            lastReturnedPrevious = null;
+            nextIndex = index;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void add(E element) {
+            if (element == null) {
+                throw new IllegalArgumentException("Cannot add null elements to the list!");
+            }
+
+            checkForComodification();
+
+            linkAfter(previous, element);
+
+            previous = previous.next;
+            nextIndex += 1;
+            lastReturned = null;
+            expectedModCount = modCount;
         }
 
         @Override
         public boolean hasNext() {
-            return current != null;
+            return nextIndex < size;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return nextIndex > 0;
         }
 
         @Override
         public E next() {
-            if (current == null) {
+            checkForComodification();
+
+            if (nextIndex >= size) {
                 throw new NoSuchElementException();
             }
 
-            E data = current.data;
-            current = current.next;
+            lastReturnedPrevious = previous;
+            lastReturned = previous.next;
+            previous = lastReturned;
+            nextIndex += 1;
+
+            return lastReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+
+            if (nextIndex <= 0) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = previous;
+            lastReturnedPrevious = dequeMode ? previous.previous : nodeBefore(nextIndex - 1);
+            previous = lastReturnedPrevious;
+            nextIndex -= 1;
+
+            return lastReturned.data;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
 
-            return data;
+            checkForComodification();
+
+            unlinkAfter(lastReturnedPrevious);
+
+            if (previous == lastReturned) {
+                previous = lastReturnedPrevious;
+                nextIndex -= 1;
+            }
+
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E element) {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            if (element == null) {
+                throw new IllegalArgumentException("The element to be set cannot be null!");
+            }
+
+            checkForComodification();
+
+            lastReturned.data = element;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         }
     }
 
     /**
-     * Node represents a node in a singly linked list.
+     * Node represents a node in a singly linked list. The link to the previous node is only kept in deque mode.
      *
      * @param <E> the type of data that the node will hold.
      */
     private static class Node<E> {
         private E data;
         private Node<E> next;
+        private Node<E> previous;
 
         Node(E data, Node<E> next) {
             this.data = data;
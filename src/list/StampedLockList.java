@@ -0,0 +1,349 @@
+package list;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * StampedLockList makes a list thread-safe by guarding it with a StampedLock.
+ *
+ * Writes take the write lock. The constant-time reads (get, size and isEmpty) first run optimistically without taking
+ * any lock, and only retry under the read lock if a write happened while they ran, so readers do not block each other
+ * while the list is not being changed. An optimistic read of the wrapped list can observe it halfway through a write
+ * and fail with a runtime exception; such an exception is only passed on to the caller if the stamp is still valid,
+ * otherwise the read is retried under the read lock. Reads that scan the list (contains, indexOf and the snapshot
+ * behind iterator and toString) take the read lock directly, as they are too long to finish without a write getting
+ * in.
+ *
+ * Sharing reads like this is only safe if reading the wrapped list does not write to it. A DoublyLinkedList or
+ * CircularLinkedList with its finger enabled moves the finger on every positional read, so for those lists, and for
+ * any list wrapped with exclusive reads, every read except size takes the write lock instead.
+ *
+ * The wrapped list must not be accessed other than through this wrapper once the wrapper is created.
+ *
+ * @param <E> is the type of elements that the list will hold.
+ */
+public class StampedLockList<E> implements List<E>, Iterable<E> {
+    private final List<E> list;
+    private final StampedLock lock;
+    private final boolean exclusiveReads;
+
+    /**
+     * Constructs a new StampedLockList that guards the given list. Reads are shared unless the list is a
+     * DoublyLinkedList or CircularLinkedList with its finger enabled.
+     *
+     * @param list the list to be guarded.
+     */
+    public StampedLockList(List<E> list) {
+        this(list, readsWrite(list));
+    }
+
+    /**
+     * Constructs a new StampedLockList that guards the given list, and that optionally gives every read exclusive
+     * access to it. Exclusive reads are needed for a list whose reads write to it, such as a list that caches the
+     * position of the last access.
+     *
+     * @param list           the list to be guarded.
+     * @param exclusiveReads whether every read takes the write lock.
+     */
+    public StampedLockList(List<E> list, boolean exclusiveReads) {
+        if (list == null) {
+            throw new IllegalArgumentException("The list to be guarded cannot be null!");
+        }
+
+        this.list = list;
+        this.lock = new StampedLock();
+        this.exclusiveReads = exclusiveReads;
+    }
+
+    /**
+     * Adds the given element to the end of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully
+     */
+    @Override
+    public boolean add(E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.add(element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Adds the given element at the specified index in the list.
+     *
+     * @param index   the index in the list where the element is to be added.
+     * @param element the element to be added.
+     */
+    @Override
+    public void add(int index, E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            list.add(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Clear the entire list.
+     */
+    @Override
+    public void clear() {
+        long stamp = lock.writeLock();
+
+        try {
+            list.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Checks if the given element exists within the list.
+     *
+     * @param element the element to be checked.
+     * @return true if the element exists within the list, false otherwise.
+     */
+    @Override
+    public boolean contains(E element) {
+        long stamp = readLock();
+
+        try {
+            return list.contains(element);
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Retrieves the element at the specified index from the list.
+     *
+     * @param index the index from which to retrieve the element.
+     * @return the element at the specified index.
+     */
+    @Override
+    public E get(int index) {
+        long stamp = exclusiveReads ? 0L : lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            try {
+                E data = list.get(index);
+
+                if (lock.validate(stamp)) {
+                    return data;
+                }
+            } catch (RuntimeException e) {
+                if (lock.validate(stamp)) {
+                    throw e;
+                }
+            }
+        }
+
+        stamp = readLock();
+
+        try {
+            return list.get(index);
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Retrieves the index of the given element if it exists in the list.
+     *
+     * @param element the element whose index is to be retrieved.
+     * @return the index of the given element if it exists in the list, -1 otherwise.
+     */
+    @Override
+    public int indexOf(E element) {
+        long stamp = readLock();
+
+        try {
+            return list.indexOf(element);
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Check if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Return an iterator over a snapshot of the list, copied under the read lock when this method is called.
+     *
+     * @return an iterator for the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new StampedLockListIterator(toArray());
+    }
+
+    /**
+     * Removes the element at the specified index from the list.
+     *
+     * @param index the index in the list at which the element is to be removed.
+     * @return the element currently at the specified index before removal.
+     */
+    @Override
+    public E remove(int index) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.remove(index);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the specified element from the list.
+     *
+     * @param element the element to be removed.
+     * @return true if the element is removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.remove(element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Sets the value of the given index in the list to the specified element.
+     *
+     * @param index   the index at which the element is to be set.
+     * @param element the element to be set at the specified index.
+     * @return the element currently at the specified index.
+     */
+    @Override
+    public E set(int index, E element) {
+        long stamp = lock.writeLock();
+
+        try {
+            return list.set(index, element);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Get the current size of the list.
+     *
+     * @return the current size of the list.
+     */
+    @Override
+    public int size() {
+        long stamp = lock.tryOptimisticRead();
+
+        if (stamp != 0L) {
+            int size = list.size();
+
+            if (lock.validate(stamp)) {
+                return size;
+            }
+        }
+
+        stamp = lock.readLock();
+
+        try {
+            return list.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Return a string representation of the StampedLockList.
+     *
+     * @return a string representation of the StampedLockList.
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private Object[] toArray() {
+        long stamp = readLock();
+
+        try {
+            Object[] snapshot = new Object[list.size()];
+            int i = 0;
+
+            for (E element : list) {
+                snapshot[i] = element;
+                i += 1;
+            }
+
+            return snapshot;
+        } finally {
+            lock.unlock(stamp);
+        }
+    }
+
+    /**
+     * Takes the lock for a read that is not optimistic: the read lock, or the write lock if reads are exclusive.
+     */
+    private long readLock() {
+        return exclusiveReads ? lock.writeLock() : lock.readLock();
+    }
+
+    private static boolean readsWrite(List<?> list) {
+        if (list instanceof DoublyLinkedList) {
+            return ((DoublyLinkedList<?>) list).isFingerEnabled();
+        }
+
+        if (list instanceof CircularLinkedList) {
+            return ((CircularLinkedList<?>) list).isFingerEnabled();
+        }
+
+        return false;
+    }
+
+    /**
+     * StampedLockListIterator is an iterator over a snapshot of a StampedLockList.
+     */
+    private class StampedLockListIterator implements Iterator<E> {
+        private final Object[] snapshot;
+        private int current;
+
+        private StampedLockListIterator(Object[] snapshot) {
+            this.snapshot = snapshot;
+            current = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != snapshot.length;
+        }
+
+        @Override
+        public E next() {
+            if (current >= snapshot.length) {
+                throw new NoSuchElementException();
+            }
+
+            E data = (E) snapshot[current];
+            current += 1;
+
+            return data;
+        }
+    }
+}
@@ -0,0 +1,399 @@
+package list;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * TieredVector implements a dynamic array as a sequence of fixed-size circular buffers.
+ *
+ * Every buffer except the last one is always full, so an index is located with a shift and a mask. To insert in the
+ * middle, only the elements of a single buffer are shifted, and every later buffer then passes its last element on to
+ * the front of the buffer after it, which takes constant time for a circular buffer. The buffer size is kept close to
+ * the square root of the size of the list: with buffers of 2^s elements the list holds up to 4^s elements, and it is
+ * rebuilt with buffers twice as large when it outgrows that capacity, and with buffers half as large when it shrinks
+ * below an eighth of it. Shrinking only at an eighth leaves the rebuilt list half full, so that alternating adds and
+ * removes at the boundary cannot trigger a rebuild every time. Inserting and removing at any index takes O(sqrt(n))
+ * time while random access stays O(1).
+ *
+ * @param <E> is the type of elements that the list will hold.
+ */
+public class TieredVector<E> implements List<E>, Iterable<E> {
+    private static final int MINIMUM_BUFFER_SHIFT = 4;
+
+    private int bufferShift;
+    private int bufferMask;
+    private int size;
+    private int bufferCount;
+    private int modCount;
+    private E[][] buffers;
+    private int[] heads;
+
+    /**
+     * Constructs a new TieredVector.
+     */
+    public TieredVector() {
+        size = 0;
+        modCount = 0;
+        allocate(MINIMUM_BUFFER_SHIFT);
+    }
+
+    /**
+     * Adds the given element to the end of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully
+     */
+    @Override
+    public boolean add(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        ensureCapacityForOneMore();
+
+        int bufferIndex = size >>> bufferShift;
+        buffers[bufferIndex][(heads[bufferIndex] + (size & bufferMask)) & bufferMask] = element;
+
+        size += 1;
+        modCount += 1;
+
+        return true;
+    }
+
+    /**
+     * Adds the given element at the specified index in the list.
+     *
+     * @param index   the index in the list where the element is to be added.
+     * @param element the element to be added.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        ensureCapacityForOneMore();
+
+        int bufferIndex = index >>> bufferShift;
+        int lastBufferIndex = size >>> bufferShift;
+        E[] buffer = buffers[bufferIndex];
+        int head = heads[bufferIndex];
+        int count = bufferIndex == lastBufferIndex ? size & bufferMask : bufferMask + 1;
+
+        E carry = count == bufferMask + 1 ? buffer[(head + bufferMask) & bufferMask] : null;
+        int last = count == bufferMask + 1 ? bufferMask - 1 : count - 1;
+
+        for (int i = last; i >= (index & bufferMask); i--) {
+            buffer[(head + i + 1) & bufferMask] = buffer[(head + i) & bufferMask];
+        }
+
+        buffer[(head + (index & bufferMask)) & bufferMask] = element;
+
+        for (int b = bufferIndex + 1; b <= lastBufferIndex; b++) {
+            buffer = buffers[b];
+            head = (heads[b] - 1) & bufferMask;
+            heads[b] = head;
+
+            E displaced = buffer[head];
+            buffer[head] = carry;
+            carry = displaced;
+        }
+
+        size += 1;
+        modCount += 1;
+    }
+
+    /**
+     * Clear the entire list.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+        modCount += 1;
+        allocate(MINIMUM_BUFFER_SHIFT);
+    }
+
+    /**
+     * Checks if the given element exists within the list.
+     *
+     * @param element the element to be checked.
+     * @return true if the element exists within the list, false otherwise.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Retrieves the element at the specified index from the list.
+     *
+     * @param index the index from which to retrieve the element.
+     * @return the element at the specified index.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int bufferIndex = index >>> bufferShift;
+
+        return buffers[bufferIndex][(heads[bufferIndex] + index) & bufferMask];
+    }
+
+    /**
+     * Retrieves the index of the given element if it exists in the list.
+     *
+     * @param element the element whose index is to be retrieved.
+     * @return the index of the given element if it exists in the list, -1 otherwise.
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be checked cannot be null!");
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (get(i).equals(element)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Check if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator for the list.
+     *
+     * @return an iterator for the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TieredVectorIterator();
+    }
+
+    /**
+     * Removes the element at the specified index from the list.
+     *
+     * @param index the index in the list at which the element is to be removed.
+     * @return the element currently at the specified index before removal.
+     */
+    @Override
+    public E remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        int bufferIndex = index >>> bufferShift;
+        int lastBufferIndex = (size - 1) >>> bufferShift;
+        E[] buffer = buffers[bufferIndex];
+        int head = heads[bufferIndex];
+        int count = bufferIndex == lastBufferIndex ? size - (bufferIndex << bufferShift) : bufferMask + 1;
+
+        E data = buffer[(head + index) & bufferMask];
+
+        for (int i = index & bufferMask; i < count - 1; i++) {
+            buffer[(head + i) & bufferMask] = buffer[(head + i + 1) & bufferMask];
+        }
+
+        int vacant = (head + count - 1) & bufferMask;
+
+        for (int b = bufferIndex + 1; b <= lastBufferIndex; b++) {
+            E[] nextBuffer = buffers[b];
+            int nextHead = heads[b];
+
+            buffer[vacant] = nextBuffer[nextHead];
+            heads[b] = (nextHead + 1) & bufferMask;
+
+            buffer = nextBuffer;
+            vacant = nextHead;
+        }
+
+        buffer[vacant] = null;
+        size -= 1;
+        modCount += 1;
+
+        if (bufferShift > MINIMUM_BUFFER_SHIFT && size < 1 << (2 * bufferShift - 3)) {
+            rebuild(bufferShift - 1);
+        }
+
+        return data;
+    }
+
+    /**
+     * Removes the specified element from the list.
+     *
+     * @param element the element to be removed.
+     * @return true if the element is removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(E element) {
+        int index = indexOf(element);
+
+        if (index == -1) {
+            return false;
+        }
+
+        remove(index);
+
+        return true;
+    }
+
+    /**
+     * Sets the value of the given index in the list to the specified element.
+     *
+     * @param index   the index at which the element is to be set.
+     * @param element the element to be set at the specified index.
+     * @return the element currently at the specified index.
+     */
+    @Override
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be set cannot be null!");
+        }
+
+        int bufferIndex = index >>> bufferShift;
+        int offset = (heads[bufferIndex] + index) & bufferMask;
+        E data = buffers[bufferIndex][offset];
+        buffers[bufferIndex][offset] = element;
+
+        return data;
+    }
+
+    /**
+     * Get the current size of the list.
+     *
+     * @return the current size of the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a string representation of the TieredVector.
+     *
+     * @return a string representation of the TieredVector.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int i = 0; i < size - 1; i++) {
+            builder.append(get(i)).append(", ");
+        }
+
+        builder.append(get(size - 1)).append("]");
+
+        return builder.toString();
+    }
+
+    private void ensureCapacityForOneMore() {
+        int bufferIndex = size >>> bufferShift;
+
+        if (bufferIndex < bufferCount) {
+            return;
+        }
+
+        if (bufferIndex == buffers.length) {
+            rebuild(bufferShift + 1);
+
+            ensureCapacityForOneMore();
+
+            return;
+        }
+
+        buffers[bufferIndex] = (E[]) new Object[bufferMask + 1];
+        heads[bufferIndex] = 0;
+        bufferCount += 1;
+    }
+
+    private void allocate(int newBufferShift) {
+        bufferShift = newBufferShift;
+        bufferMask = (1 << newBufferShift) - 1;
+        bufferCount = 0;
+        buffers = (E[][]) new Object[1 << newBufferShift][];
+        heads = new int[1 << newBufferShift];
+    }
+
+    private void rebuild(int newBufferShift) {
+        E[][] oldBuffers = buffers;
+        int[] oldHeads = heads;
+        int oldShift = bufferShift;
+        int oldMask = bufferMask;
+
+        allocate(newBufferShift);
+
+        for (int i = 0; i < size; i++) {
+            int oldBufferIndex = i >>> oldShift;
+            E element = oldBuffers[oldBufferIndex][(oldHeads[oldBufferIndex] + i) & oldMask];
+
+            int bufferIndex = i >>> bufferShift;
+
+            if (bufferIndex == bufferCount) {
+                buffers[bufferIndex] = (E[]) new Object[bufferMask + 1];
+                bufferCount += 1;
+            }
+
+            buffers[bufferIndex][i & bufferMask] = element;
+        }
+    }
+
+    /**
+     * TieredVectorIterator is a fail-fast iterator for TieredVector.
+     */
+    private class TieredVectorIterator implements Iterator<E> {
+        private int current;
+        private final int expectedModCount;
+
+        private TieredVectorIterator() {
+            current = 0;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (current >= size) {
+                throw new NoSuchElementException();
+            }
+
+            E data = get(current);
+            current += 1;
+
+            return data;
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package list;
+
+import java.util.Comparator;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * TimSort sorts a range of an array in place with a stable, simplified TimSort, and sorts large arrays in parallel with
+ * a fork-join merge sort whose leaves are sorted with TimSort.
+ *
+ * The sequential sort finds the runs that are already ascending, or strictly descending and then reversed, extends
+ * short runs to a minimum length with binary insertion sort, and merges the runs on a stack whose lengths are kept
+ * decreasing faster than the Fibonacci numbers, so that merges stay balanced. Before two runs are merged, the elements
+ * already in their final place at the start of the first run and at the end of the second run are skipped by binary
+ * search, and only the shorter of the remaining runs is copied out, so the work array never holds more than half of
+ * the range.
+ *
+ * The parallel sort splits the range in half until the pieces are no larger than the granularity, and merges sorted
+ * halves back and forth between the array and a work array of the same length. A merge splits the larger run at its
+ * middle and the other run at the matching position, so that both halves of a merge also run in parallel.
+ *
+ * @param <E> is the type of elements that are sorted.
+ */
+final class TimSort<E> {
+    private static final int MINIMUM_MERGE = 32;
+    private static final int MAXIMUM_RUNS = 49;
+
+    private final E[] array;
+    private final Comparator<? super E> comparator;
+    private final E[] work;
+    private final int workBase;
+    private final int[] runBases;
+    private final int[] runLengths;
+    private int runs;
+
+    private TimSort(E[] array, Comparator<? super E> comparator, E[] work, int workBase) {
+        this.array = array;
+        this.comparator = comparator;
+        this.work = work;
+        this.workBase = workBase;
+        runBases = new int[MAXIMUM_RUNS];
+        runLengths = new int[MAXIMUM_RUNS];
+        runs = 0;
+    }
+
+    /**
+     * Sorts the elements of the array from the low index, inclusive, up to the high index, exclusive.
+     *
+     * @param array      the array to be sorted.
+     * @param low        the index of the first element to be sorted.
+     * @param high       the index after the last element to be sorted.
+     * @param comparator the comparator that orders the elements.
+     * @param <E>        the type of elements that are sorted.
+     */
+    static <E> void sort(E[] array, int low, int high, Comparator<? super E> comparator) {
+        sort(array, low, high, comparator, null, 0);
+    }
+
+    /**
+     * Sorts the elements of the array from the low index, inclusive, up to the high index, exclusive, in parallel in
+     * the common fork-join pool. The range is sorted sequentially in pieces no larger than the given granularity.
+     *
+     * @param array       the array to be sorted.
+     * @param low         the index of the first element to be sorted.
+     * @param high        the index after the last element to be sorted.
+     * @param comparator  the comparator that orders the elements.
+     * @param granularity the number of elements below which a piece is sorted or merged sequentially.
+     * @param <E>         the type of elements that are sorted.
+     */
+    static <E> void parallelSort(E[] array, int low, int high, Comparator<? super E> comparator, int granularity) {
+        E[] work = (E[]) new Object[high];
+
+        new SortTask<>(array, work, comparator, granularity, low, high, false).invoke();
+    }
+
+    /**
+     * Sorts the range with the given work array, of which the part from the work base onwards may be overwritten with
+     * up to half of the range. A null work array is allocated when the range is long enough to need merges.
+     */
+    private static <E> void sort(E[] array, int low, int high, Comparator<? super E> comparator, E[] work,
+                                 int workBase) {
+        int remaining = high - low;
+
+        if (remaining < 2) {
+            return;
+        }
+
+        if (remaining < 2 * MINIMUM_MERGE) {
+            int runLength = countRunAndMakeAscending(array, low, high, comparator);
+            binaryInsertionSort(array, low, high, low + runLength, comparator);
+
+            return;
+        }
+
+        if (work == null) {
+            work = (E[]) new Object[remaining >>> 1];
+            workBase = 0;
+        }
+
+        TimSort<E> sorter = new TimSort<>(array, comparator, work, workBase);
+        int minimumRun = minimumRunLength(remaining);
+
+        while (remaining > 0) {
+            int runLength = countRunAndMakeAscending(array, low, high, comparator);
+
+            if (runLength < minimumRun) {
+                int forcedLength = Math.min(remaining, minimumRun);
+                binaryInsertionSort(array, low, low + forcedLength, low + runLength, comparator);
+                runLength = forcedLength;
+            }
+
+            sorter.pushRun(low, runLength);
+            sorter.mergeCollapse();
+
+            low += runLength;
+            remaining -= runLength;
+        }
+
+        sorter.mergeForceCollapse();
+    }
+
+    private void pushRun(int runBase, int runLength) {
+        runBases[runs] = runBase;
+        runLengths[runs] = runLength;
+        runs += 1;
+    }
+
+    /**
+     * Merges runs on the stack until every run is longer than the two runs above it together, and longer than the run
+     * above it.
+     */
+    private void mergeCollapse() {
+        while (runs > 1) {
+            int n = runs - 2;
+
+            if (n > 0 && runLengths[n - 1] <= runLengths[n] + runLengths[n + 1]
+                    || n > 1 && runLengths[n - 2] <= runLengths[n] + runLengths[n - 1]) {
+                if (runLengths[n - 1] < runLengths[n + 1]) {
+                    n -= 1;
+                }
+            } else if (runLengths[n] > runLengths[n + 1]) {
+                break;
+            }
+
+            mergeAt(n);
+        }
+    }
+
+    private void mergeForceCollapse() {
+        while (runs > 1) {
+            int n = runs - 2;
+
+            if (n > 0 && runLengths[n - 1] < runLengths[n + 1]) {
+                n -= 1;
+            }
+
+            mergeAt(n);
+        }
+    }
+
+    /**
+     * Merges the runs at the given position and the position after it on the stack.
+     */
+    private void mergeAt(int i) {
+        int base1 = runBases[i];
+        int length1 = runLengths[i];
+        int base2 = runBases[i + 1];
+        int length2 = runLengths[i + 1];
+
+        runLengths[i] = length1 + length2;
+
+        if (i == runs - 3) {
+            runBases[i + 1] = runBases[i + 2];
+            runLengths[i + 1] = runLengths[i + 2];
+        }
+
+        runs -= 1;
+
+        int skipped = upperBound(array, base1, base2, array[base2], comparator) - base1;
+        base1 += skipped;
+        length1 -= skipped;
+
+        if (length1 == 0) {
+            return;
+        }
+
+        length2 = lowerBound(array, base2, base2 + length2, array[base2 - 1], comparator) - base2;
+
+        if (length2 == 0) {
+            return;
+        }
+
+        if (length1 <= length2) {
+            mergeLow(base1, length1, base2, length2);
+        } else {
+            mergeHigh(base1, length1, base2, length2);
+        }
+    }
+
+    /**
+     * Merges two adjacent runs from the front, after copying the first and shorter run out to the work array.
+     */
+    private void mergeLow(int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base1, work, workBase, length1);
+
+        int destination = base1;
+        int cursor1 = workBase;
+        int end1 = workBase + length1;
+        int cursor2 = base2;
+        int end2 = base2 + length2;
+
+        while (cursor1 < end1 && cursor2 < end2) {
+            if (comparator.compare(array[cursor2], work[cursor1]) < 0) {
+                array[destination] = array[cursor2];
+                cursor2 += 1;
+            } else {
+                array[destination] = work[cursor1];
+                cursor1 += 1;
+            }
+
+            destination += 1;
+        }
+
+        System.arraycopy(work, cursor1, array, destination, end1 - cursor1);
+    }
+
+    /**
+     * Merges two adjacent runs from the back, after copying the second and shorter run out to the work array.
+     */
+    private void mergeHigh(int base1, int length1, int base2, int length2) {
+        System.arraycopy(array, base2, work, workBase, length2);
+
+        int destination = base2 + length2 - 1;
+        int cursor1 = base1 + length1 - 1;
+        int cursor2 = workBase + length2 - 1;
+
+        while (cursor1 >= base1 && cursor2 >= workBase) {
+            if (comparator.compare(work[cursor2], array[cursor1]) < 0) {
+                array[destination] = array[cursor1];
+                cursor1 -= 1;
+            } else {
+                array[destination] = work[cursor2];
+                cursor2 -= 1;
+            }
+
+            destination -= 1;
+        }
+
+        System.arraycopy(work, workBase, array, base1, cursor2 - workBase + 1);
+    }
+
+    /**
+     * Return the length of the run that starts at the low index, after reversing it if it is strictly descending.
+     * Only strictly descending runs are reversed, so that equal elements never swap places.
+     */
+    private static <E> int countRunAndMakeAscending(E[] array, int low, int high, Comparator<? super E> comparator) {
+        int runHigh = low + 1;
+
+        if (runHigh == high) {
+            return 1;
+        }
+
+        if (comparator.compare(array[runHigh], array[low]) < 0) {
+            runHigh += 1;
+
+            while (runHigh < high && comparator.compare(array[runHigh], array[runHigh - 1]) < 0) {
+                runHigh += 1;
+            }
+
+            reverse(array, low, runHigh);
+        } else {
+            runHigh += 1;
+
+            while (runHigh < high && comparator.compare(array[runHigh], array[runHigh - 1]) >= 0) {
+                runHigh += 1;
+            }
+        }
+
+        return runHigh - low;
+    }
+
+    /**
+     * Sorts the range by inserting every element from the start index onwards into the sorted prefix before it, at
+     * the position found by binary search.
+     */
+    private static <E> void binaryInsertionSort(E[] array, int low, int high, int start,
+                                                Comparator<? super E> comparator) {
+        for (int i = start; i < high; i++) {
+            E pivot = array[i];
+            int position = upperBound(array, low, i, pivot, comparator);
+
+            System.arraycopy(array, position, array, position + 1, i - position);
+            array[position] = pivot;
+        }
+    }
+
+    private static <E> void reverse(E[] array, int low, int high) {
+        for (int i = low, j = high - 1; i < j; i++, j--) {
+            E temporary = array[i];
+            array[i] = array[j];
+            array[j] = temporary;
+        }
+    }
+
+    /**
+     * Return the length of the shortest run, between half and all of a power of two that divides the length of the
+     * range, so that the runs merge in balanced pairs.
+     */
+    private static int minimumRunLength(int length) {
+        int remainder = 0;
+
+        while (length >= 2 * MINIMUM_MERGE) {
+            remainder |= length & 1;
+            length >>= 1;
+        }
+
+        return length + remainder;
+    }
+
+    /**
+     * Return the index of the first element in the sorted range that is not less than the given key.
+     */
+    private static <E> int lowerBound(E[] array, int low, int high, E key, Comparator<? super E> comparator) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (comparator.compare(array[middle], key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * Return the index of the first element in the sorted range that is greater than the given key.
+     */
+    private static <E> int upperBound(E[] array, int low, int high, E key, Comparator<? super E> comparator) {
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (comparator.compare(key, array[middle]) < 0) {
+                high = middle;
+            } else {
+                low = middle + 1;
+            }
+        }
+
+        return low;
+    }
+
+    /**
+     * SortTask sorts a range of the array, and leaves the sorted elements either in the array or at the same indices
+     * in the work array.
+     */
+    private static final class SortTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] array;
+        private final E[] work;
+        private final Comparator<? super E> comparator;
+        private final int granularity;
+        private final int low;
+        private final int high;
+        private final boolean intoWork;
+
+        private SortTask(E[] array, E[] work, Comparator<? super E> comparator, int granularity, int low, int high,
+                         boolean intoWork) {
+            this.array = array;
+            this.work = work;
+            this.comparator = comparator;
+            this.granularity = granularity;
+            this.low = low;
+            this.high = high;
+            this.intoWork = intoWork;
+        }
+
+        @Override
+        protected void compute() {
+            if (high - low <= granularity) {
+                sort(array, low, high, comparator, work, low);
+
+                if (intoWork) {
+                    System.arraycopy(array, low, work, low, high - low);
+                }
+
+                return;
+            }
+
+            int middle = (low + high) >>> 1;
+
+            ForkJoinTask.invokeAll(
+                    new SortTask<>(array, work, comparator, granularity, low, middle, !intoWork),
+                    new SortTask<>(array, work, comparator, granularity, middle, high, !intoWork));
+
+            E[] source = intoWork ? array : work;
+            E[] destination = intoWork ? work : array;
+
+            new MergeTask<>(source, destination, comparator, granularity, low, middle, middle, high, low).compute();
+        }
+    }
+
+    /**
+     * MergeTask merges two adjacent sorted ranges of the source array into the destination array, starting at the
+     * given index.
+     */
+    private static final class MergeTask<E> extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final E[] source;
+        private final E[] destination;
+        private final Comparator<? super E> comparator;
+        private final int granularity;
+        private final int low1;
+        private final int high1;
+        private final int low2;
+        private final int high2;
+        private final int start;
+
+        private MergeTask(E[] source, E[] destination, Comparator<? super E> comparator, int granularity, int low1,
+                          int high1, int low2, int high2, int start) {
+            this.source = source;
+            this.destination = destination;
+            this.comparator = comparator;
+            this.granularity = granularity;
+            this.low1 = low1;
+            this.high1 = high1;
+            this.low2 = low2;
+            this.high2 = high2;
+            this.start = start;
+        }
+
+        @Override
+        protected void compute() {
+            int length1 = high1 - low1;
+            int length2 = high2 - low2;
+
+            if (length1 + length2 <= granularity) {
+                merge();
+
+                return;
+            }
+
+            int middle1;
+            int middle2;
+
+            if (length1 >= length2) {
+                middle1 = (low1 + high1) >>> 1;
+                middle2 = lowerBound(source, low2, high2, source[middle1], comparator);
+            } else {
+                middle2 = (low2 + high2) >>> 1;
+                middle1 = upperBound(source, low1, high1, source[middle2], comparator);
+            }
+
+            int middleStart = start + (middle1 - low1) + (middle2 - low2);
+
+            ForkJoinTask.invokeAll(
+                    new MergeTask<>(source, destination, comparator, granularity, low1, middle1, low2, middle2,
+                            start),
+                    new MergeTask<>(source, destination, comparator, granularity, middle1, high1, middle2, high2,
+                            middleStart));
+        }
+
+        private void merge() {
+            int cursor1 = low1;
+            int cursor2 = low2;
+            int index = start;
+
+            while (cursor1 < high1 && cursor2 < high2) {
+                if (comparator.compare(source[cursor2], source[cursor1]) < 0) {
+                    destination[index] = source[cursor2];
+                    cursor2 += 1;
+                } else {
+                    destination[index] = source[cursor1];
+                    cursor1 += 1;
+                }
+
+                index += 1;
+            }
+
+            System.arraycopy(source, cursor1, destination, index, high1 - cursor1);
+            System.arraycopy(source, cursor2, destination, index + high1 - cursor1, high2 - cursor2);
+        }
+    }
+}
@@ -0,0 +1,489 @@
+package list;
+
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * UnrolledLinkedList implements an unrolled linked list, a doubly linked list in which every node holds a small array
+ * of elements instead of a single element.
+ *
+ * A full node is split in two when an element is inserted into it, and a node that falls below half full after a
+ * removal absorbs its successor when their elements fit in a single node. Storing many elements per node spreads the
+ * header and link overhead of a node across the elements, and keeps neighbouring elements next to each other in
+ * memory.
+ *
+ * @param <E> is the type of elements that the list will hold.
+ */
+public class UnrolledLinkedList<E> implements List<E>, Iterable<E> {
+    private static final int DEFAULT_NODE_CAPACITY = 64;
+
+    private final int nodeCapacity;
+    private int size;
+    private int modCount;
+    private Node<E> sentinelHead;
+    private Node<E> sentinelTail;
+
+    /**
+     * Constructs a new UnrolledLinkedList.
+     */
+    public UnrolledLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructs a new UnrolledLinkedList whose nodes hold up to the given number of elements.
+     *
+     * @param nodeCapacity the maximum number of elements in a node.
+     */
+    public UnrolledLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("The node capacity must be at least 2!");
+        }
+
+        this.nodeCapacity = nodeCapacity;
+        size = 0;
+        sentinelHead = new Node<>(0);
+        sentinelTail = new Node<>(0);
+
+        sentinelHead.next = sentinelTail;
+        sentinelTail.previous = sentinelHead;
+    }
+
+    /**
+     * Adds the given element to the end of the list.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully
+     */
+    @Override
+    public boolean add(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        Node<E> last = sentinelTail.previous;
+
+        if (last == sentinelHead || last.count == nodeCapacity) {
+            last = insertNodeAfter(last);
+        }
+
+        last.elements[last.count] = element;
+        last.count += 1;
+
+        size += 1;
+        modCount += 1;
+
+        return true;
+    }
+
+    /**
+     * Adds the given element at the specified index in the list.
+     *
+     * @param index   the index in the list where the element is to be added.
+     * @param element the element to be added.
+     */
+    @Override
+    public void add(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the list!");
+        }
+
+        Position<E> position = position(index);
+        Node<E> current = position.node;
+        int offset = position.offset;
+
+        if (current.count == nodeCapacity) {
+            int half = nodeCapacity / 2;
+            Node<E> newNode = insertNodeAfter(current);
+
+            System.arraycopy(current.elements, half, newNode.elements, 0, nodeCapacity - half);
+            Arrays.fill(current.elements, half, nodeCapacity, null);
+            newNode.count = nodeCapacity - half;
+            current.count = half;
+
+            if (offset > half) {
+                current = newNode;
+                offset -= half;
+            }
+        }
+
+        System.arraycopy(current.elements, offset, current.elements, offset + 1, current.count - offset);
+        current.elements[offset] = element;
+        current.count += 1;
+
+        size += 1;
+        modCount += 1;
+    }
+
+    /**
+     * Clear the entire list.
+     */
+    @Override
+    public void clear() {
+        size = 0;
+        modCount += 1;
+        sentinelHead = new Node<>(0);
+        sentinelTail = new Node<>(0);
+
+        sentinelHead.next = sentinelTail;
+        sentinelTail.previous = sentinelHead;
+    }
+
+    /**
+     * Checks if the given element exists within the list.
+     *
+     * @param element the element to be checked.
+     * @return true if the element exists within the list, false otherwise.
+     */
+    @Override
+    public boolean contains(E element) {
+        return indexOf(element) != -1;
+    }
+
+    /**
+     * Retrieves the element at the specified index from the list.
+     *
+     * @param index the index from which to retrieve the element.
+     * @return the element at the specified index.
+     */
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Position<E> position = position(index);
+
+        return position.node.elements[position.offset];
+    }
+
+    /**
+     * Retrieves the index of the given element if it exists in the list.
+     *
+     * @param element the element whose index is to be retrieved.
+     * @return the index of the given element if it exists in the list, -1 otherwise.
+     */
+    @Override
+    public int indexOf(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be checked cannot be null!");
+        }
+
+        int index = 0;
+
+        for (Node<E> current = sentinelHead.next; current != sentinelTail; current = current.next) {
+            for (int i = 0; i < current.count; i++) {
+                if (current.elements[i].equals(element)) {
+                    return index + i;
+                }
+            }
+
+            index += current.count;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Check if the list is empty.
+     *
+     * @return true if the list is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator for the list.
+     *
+     * @return an iterator for the list.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new UnrolledLinkedListIterator();
+    }
+
+    /**
+     * Removes the element at the specified index from the list.
+     *
+     * @param index the index in the list at which the element is to be removed.
+     * @return the element currently at the specified index before removal.
+     */
+    @Override
+    public E remove(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        Position<E> position = position(index);
+
+        return removeAt(position.node, position.offset);
+    }
+
+    /**
+     * Removes the specified element from the list.
+     *
+     * @param element the element to be removed.
+     * @return true if the element is removed successfully, false otherwise.
+     */
+    @Override
+    public boolean remove(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be removed cannot be null!");
+        }
+
+        for (Node<E> current = sentinelHead.next; current != sentinelTail; current = current.next) {
+            for (int i = 0; i < current.count; i++) {
+                if (current.elements[i].equals(element)) {
+                    removeAt(current, i);
+
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Sets the value of the given index in the list to the specified element.
+     *
+     * @param index   the index at which the element is to be set.
+     * @param element the element to be set at the specified index.
+     * @return the element currently at the specified index.
+     */
+    @Override
+    public E set(int index, E element) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be set cannot be null!");
+        }
+
+        Position<E> position = position(index);
+        E data = position.node.elements[position.offset];
+        position.node.elements[position.offset] = element;
+
+        return data;
+    }
+
+    /**
+     * Get the current size of the list.
+     *
+     * @return the current size of the list.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a string representation of the UnrolledLinkedList.
+     *
+     * @return a string representation of the UnrolledLinkedList.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (Node<E> current = sentinelHead.next; current != sentinelTail; current = current.next) {
+            for (int i = 0; i < current.count; i++) {
+                builder.append(current.elements[i]).append(", ");
+            }
+        }
+
+        builder.setLength(builder.length() - 2);
+        builder.append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Returns the node that holds the element at the given index together with the offset of the element within that
+     * node, walking from whichever end of the list is closer. The walk writes no fields, so reads stay free of side
+     * effects.
+     */
+    private Position<E> position(int index) {
+        Node<E> current;
+
+        if (index < size / 2) {
+            current = sentinelHead.next;
+
+            while (index >= current.count) {
+                index -= current.count;
+                current = current.next;
+            }
+
+            return new Position<>(current, index);
+        } else {
+            int remaining = size - index;
+            current = sentinelTail.previous;
+
+            while (remaining > current.count) {
+                remaining -= current.count;
+                current = current.previous;
+            }
+
+            return new Position<>(current, current.count - remaining);
+        }
+    }
+
+    private Node<E> insertNodeAfter(Node<E> node) {
+        Node<E> newNode = new Node<>(nodeCapacity);
+        newNode.previous = node;
+        newNode.next = node.next;
+        newNode.previous.next = newNode;
+        newNode.next.previous = newNode;
+
+        return newNode;
+    }
+
+    private E removeAt(Node<E> node, int offset) {
+        E data = node.elements[offset];
+
+        System.arraycopy(node.elements, offset + 1, node.elements, offset, node.count - offset - 1);
+        node.count -= 1;
+        node.elements[node.count] = null;
+
+        if (node.count == 0) {
+            node.previous.next = node.next;
+            node.next.previous = node.previous;
+        } else if (node.count < nodeCapacity / 2 && node.next != sentinelTail
+                && node.count + node.next.count <= nodeCapacity) {
+            Node<E> next = node.next;
+
+            System.arraycopy(next.elements, 0, node.elements, node.count, next.count);
+            node.count += next.count;
+
+            node.next = next.next;
+            node.next.previous = node;
+        }
+
+        size -= 1;
+        modCount += 1;
+
+        return data;
+    }
+
+    /**
+     * UnrolledLinkedListIterator is a fail-fast iterator for UnrolledLinkedList.
+     */
+    private class UnrolledLinkedListIterator implements Iterator<E> {
+        private Node<E> current;
+        private int offset;
+        private Node<E> lastReturned;
+        private int lastReturnedOffset;
+        private int expectedModCount;
+
+        private UnrolledLinkedListIterator() {
+            current = sentinelHead.next;
+            offset = 0;
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            skipExhaustedNode();
+
+            return current != sentinelTail;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            skipExhaustedNode();
+
+            if (current == sentinelTail) {
+                throw new NoSuchElementException();
+            }
+
+            lastReturned = current;
+            lastReturnedOffset = offset;
+            offset += 1;
+
+            return lastReturned.elements[lastReturnedOffset];
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned == null) {
+                throw new IllegalStateException();
+            }
+
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            removeAt(lastReturned, lastReturnedOffset);
+
+            if (lastReturned.count == 0) {
+                current = lastReturned.next;
+                offset = 0;
+            } else {
+                current = lastReturned;
+                offset = lastReturnedOffset;
+            }
+
+            lastReturned = null;
+            expectedModCount = modCount;
+        }
+
+        private void skipExhaustedNode() {
+            if (current != sentinelTail && offset >= current.count) {
+                current = current.next;
+                offset = 0;
+            }
+        }
+    }
+
+    /**
+     * Position is the node that holds an element of an UnrolledLinkedList together with the offset of the element
+     * within that node. It never escapes the list, so the JIT can usually keep it in registers.
+     *
+     * @param <E> the type of data that the node holds.
+     */
+    private static final class Position<E> {
+        private final Node<E> node;
+        private final int offset;
+
+        private Position(Node<E> node, int offset) {
+            this.node = node;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Node represents a node in an unrolled linked list.
+     *
+     * @param <E> the type of data that the node will hold.
+     */
+    private static class Node<E> {
+        private final E[] elements;
+        private int count;
+        private Node<E> previous;
+        private Node<E> next;
+
+        private Node(int capacity) {
+            this.elements = (E[]) new Object[capacity];
+            this.count = 0;
+        }
+    }
+}
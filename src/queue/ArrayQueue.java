@@ -0,0 +1,275 @@
+package queue;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * ArrayQueue implements a queue backed by a circular array.
+ *
+ * The capacity of the backing array is always a power of two, so the head and tail indices wrap around using a bit
+ * mask instead of a division. The queue may optionally be bounded, in which case offer returns false once the queue
+ * holds the maximum number of elements instead of growing the backing array.
+ *
+ * @param <E> the type of elements that the queue will hold.
+ */
+public class ArrayQueue<E> implements Queue<E>, Iterable<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+    private final int maximumSize;
+    private int size;
+    private int head;
+    private int mask;
+    private E[] array;
+
+    /**
+     * Constructs a new unbounded ArrayQueue.
+     */
+    public ArrayQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new unbounded ArrayQueue that can hold the given number of elements before growing.
+     *
+     * @param initialCapacity the number of elements the queue can hold before growing.
+     */
+    public ArrayQueue(int initialCapacity) {
+        this(initialCapacity, false);
+    }
+
+    /**
+     * Constructs a new ArrayQueue with the given capacity.
+     *
+     * @param capacity the number of elements the queue can hold before growing, or at most if it is bounded.
+     * @param bounded  whether the queue is limited to holding the given number of elements.
+     */
+    public ArrayQueue(int capacity, boolean bounded) {
+        if (capacity < 1 || capacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("The capacity must be between 1 and " + MAXIMUM_CAPACITY + "!");
+        }
+
+        maximumSize = bounded ? capacity : Integer.MAX_VALUE;
+        size = 0;
+        head = 0;
+        array = (E[]) new Object[powerOfTwoCapacity(capacity)];
+        mask = array.length - 1;
+    }
+
+    /**
+     * Adds the given element to the tail of the queue.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully.
+     * @throws IllegalStateException if the queue is bounded and full.
+     */
+    @Override
+    public boolean add(E element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("The queue is full!");
+        }
+
+        return true;
+    }
+
+    /**
+     * Clear the entire queue.
+     */
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            array[(head + i) & mask] = null;
+        }
+
+        size = 0;
+        head = 0;
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E element() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return array[head];
+    }
+
+    /**
+     * Check if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator for the queue, from the head to the tail.
+     *
+     * @return an iterator for the queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayQueueIterator();
+    }
+
+    /**
+     * Adds the given element to the tail of the queue if it is not full.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully, false if the queue is bounded and full.
+     */
+    @Override
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the queue!");
+        }
+
+        if (size == maximumSize) {
+            return false;
+        }
+
+        if (size == array.length) {
+            resizeArray(array.length * 2);
+        }
+
+        array[(head + size) & mask] = element;
+        size += 1;
+
+        return true;
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E peek() {
+        return array[head];
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E poll() {
+        E data = array[head];
+
+        if (data == null) {
+            return null;
+        }
+
+        array[head] = null;
+        head = (head + 1) & mask;
+        size -= 1;
+
+        return data;
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E remove() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return poll();
+    }
+
+    /**
+     * Get the current size of the queue.
+     *
+     * @return the current size of the queue.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a string representation of the ArrayQueue.
+     *
+     * @return a string representation of the ArrayQueue.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int i = 0; i < size - 1; i++) {
+            builder.append(array[(head + i) & mask]).append(", ");
+        }
+
+        builder.append(array[(head + size - 1) & mask]).append("]");
+
+        return builder.toString();
+    }
+
+    private void resizeArray(int newCapacity) {
+        if (newCapacity > MAXIMUM_CAPACITY || newCapacity < 0) {
+            throw new IllegalStateException("The queue cannot grow beyond " + MAXIMUM_CAPACITY + " elements!");
+        }
+
+        E[] newArray = (E[]) new Object[newCapacity];
+        int headLength = Math.min(size, array.length - head);
+
+        System.arraycopy(array, head, newArray, 0, headLength);
+        System.arraycopy(array, 0, newArray, headLength, size - headLength);
+
+        array = newArray;
+        mask = newCapacity - 1;
+        head = 0;
+    }
+
+    private static int powerOfTwoCapacity(int capacity) {
+        int highestOneBit = Integer.highestOneBit(capacity);
+
+        return highestOneBit == capacity ? capacity : highestOneBit << 1;
+    }
+
+    /**
+     * ArrayQueueIterator is an iterator for ArrayQueue.
+     */
+    private class ArrayQueueIterator implements Iterator<E> {
+        private int current;
+
+        private ArrayQueueIterator() {
+            current = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current < size;
+        }
+
+        @Override
+        public E next() {
+            if (current >= size) {
+                throw new NoSuchElementException();
+            }
+
+            E data = array[(head + current) & mask];
+            current += 1;
+
+            return data;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+
+/**
+ * MpmcArrayQueue implements a bounded, lock-free queue for any number of producer and consumer threads.
+ *
+ * It follows Dmitry Vyukov's bounded MPMC queue: every slot of the ring carries a sequence number that tells producers
+ * and consumers whose turn it is to use the slot. Producers and consumers claim a slot by advancing their own index
+ * with a compare-and-set, so threads on one side never contend with threads on the other side, and the two indices are
+ * separated by padding so that they never share a cache line.
+ *
+ * @param <E> the type of elements that the queue will hold.
+ */
+public class MpmcArrayQueue<E> extends MpmcArrayQueueConsumerFields<E> implements Queue<E> {
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    /**
+     * Constructs a new MpmcArrayQueue that holds at most the given number of elements, rounded up to a power of two.
+     *
+     * @param capacity the maximum number of elements the queue can hold.
+     */
+    public MpmcArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Adds the given element to the tail of the queue.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully.
+     * @throws IllegalStateException if the queue is full.
+     */
+    @Override
+    public boolean add(E element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("The queue is full!");
+        }
+
+        return true;
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E element() {
+        E data = peek();
+
+        if (data == null) {
+            throw new NoSuchElementException();
+        }
+
+        return data;
+    }
+
+    /**
+     * Check if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return (long) CONSUMER_INDEX.getVolatile(this) == (long) PRODUCER_INDEX.getVolatile(this);
+    }
+
+    /**
+     * Adds the given element to the tail of the queue if it is not full.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully, false if the queue is full.
+     */
+    @Override
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the queue!");
+        }
+
+        while (true) {
+            long index = (long) PRODUCER_INDEX.getVolatile(this);
+            int offset = (int) index & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, offset);
+
+            if (sequence == index) {
+                if (PRODUCER_INDEX.compareAndSet(this, index, index + 1)) {
+                    array[offset] = element;
+                    SEQUENCE.setRelease(sequences, offset, index + 1);
+
+                    return true;
+                }
+            } else if (sequence < index) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it. The element may already have been removed by
+     * another consumer by the time this method returns.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E peek() {
+        while (true) {
+            long index = (long) CONSUMER_INDEX.getVolatile(this);
+            int offset = (int) index & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, offset);
+
+            if (sequence < index + 1) {
+                return null;
+            }
+
+            E data = array[offset];
+
+            if (data != null && (long) SEQUENCE.getAcquire(sequences, offset) == sequence) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E poll() {
+        while (true) {
+            long index = (long) CONSUMER_INDEX.getVolatile(this);
+            int offset = (int) index & mask;
+            long sequence = (long) SEQUENCE.getAcquire(sequences, offset);
+
+            if (sequence == index + 1) {
+                if (CONSUMER_INDEX.compareAndSet(this, index, index + 1)) {
+                    E data = array[offset];
+                    array[offset] = null;
+                    SEQUENCE.setRelease(sequences, offset, index + mask + 1);
+
+                    return data;
+                }
+            } else if (sequence < index + 1) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E remove() {
+        E data = poll();
+
+        if (data == null) {
+            throw new NoSuchElementException();
+        }
+
+        return data;
+    }
+
+    /**
+     * Get the current size of the queue. The result is only a snapshot when the queue is in use by other threads.
+     *
+     * @return the current size of the queue.
+     */
+    @Override
+    public int size() {
+        long after = (long) CONSUMER_INDEX.getVolatile(this);
+
+        while (true) {
+            long before = after;
+            long producer = (long) PRODUCER_INDEX.getVolatile(this);
+            after = (long) CONSUMER_INDEX.getVolatile(this);
+
+            if (before == after) {
+                return (int) Math.max(0, Math.min(producer - after, mask + 1));
+            }
+        }
+    }
+}
+
+/**
+ * MpmcArrayQueueColdFields holds the fields of MpmcArrayQueue that never change after construction.
+ */
+abstract class MpmcArrayQueueColdFields<E> {
+    protected static final VarHandle SEQUENCE = MethodHandles.arrayElementVarHandle(long[].class);
+
+    protected final int mask;
+    protected final long[] sequences;
+    protected final E[] array;
+
+    MpmcArrayQueueColdFields(int capacity) {
+        if (capacity < 2 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity must be between 2 and " + (1 << 30) + "!");
+        }
+
+        int arrayCapacity = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+
+        this.mask = arrayCapacity - 1;
+        this.sequences = new long[arrayCapacity];
+        this.array = (E[]) new Object[arrayCapacity];
+
+        for (int i = 0; i < arrayCapacity; i++) {
+            SEQUENCE.setRelease(sequences, i, (long) i);
+        }
+    }
+}
+
+/**
+ * MpmcArrayQueueProducerPad keeps the producer index off the cache line of the cold fields.
+ */
+abstract class MpmcArrayQueueProducerPad<E> extends MpmcArrayQueueColdFields<E> {
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpmcArrayQueueProducerPad(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * MpmcArrayQueueProducerFields holds the index that producer threads advance.
+ */
+abstract class MpmcArrayQueueProducerFields<E> extends MpmcArrayQueueProducerPad<E> {
+    protected static final VarHandle PRODUCER_INDEX;
+
+    static {
+        try {
+            PRODUCER_INDEX = MethodHandles.lookup()
+                    .findVarHandle(MpmcArrayQueueProducerFields.class, "producerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected long producerIndex;
+
+    MpmcArrayQueueProducerFields(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * MpmcArrayQueueConsumerPad keeps the consumer index off the cache line of the producer index.
+ */
+abstract class MpmcArrayQueueConsumerPad<E> extends MpmcArrayQueueProducerFields<E> {
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    MpmcArrayQueueConsumerPad(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * MpmcArrayQueueConsumerFields holds the index that consumer threads advance.
+ */
+abstract class MpmcArrayQueueConsumerFields<E> extends MpmcArrayQueueConsumerPad<E> {
+    protected static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            CONSUMER_INDEX = MethodHandles.lookup()
+                    .findVarHandle(MpmcArrayQueueConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected long consumerIndex;
+
+    MpmcArrayQueueConsumerFields(int capacity) {
+        super(capacity);
+    }
+}
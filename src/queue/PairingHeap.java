@@ -0,0 +1,448 @@
+package queue;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * PairingHeap implements an unbounded, addressable priority queue backed by a pairing heap.
+ *
+ * The head of the queue is its smallest element, according to the natural ordering of the elements or to the given
+ * comparator. Inserting an element returns a handle to it, through which the element can later be decreased or
+ * deleted without searching for it, which is what shortest path algorithms need to update a tentative distance in
+ * place instead of inserting a duplicate. Inserting takes constant time, and decreasing, deleting and polling take
+ * O(log n) amortized time.
+ *
+ * Every node links to its leftmost child and its next sibling, and back to its previous sibling, or to its parent if
+ * it is the leftmost child, so that a node can be cut out of the heap in constant time. Polling merges the children
+ * of the root in the standard two passes, without recursion.
+ *
+ * @param <E> the type of elements that the queue will hold.
+ */
+public class PairingHeap<E> implements Queue<E>, Iterable<E> {
+    private final Comparator<? super E> comparator;
+    private int size;
+    private int modCount;
+    private Handle<E> root;
+
+    /**
+     * Constructs a new PairingHeap that orders its elements by their natural ordering.
+     */
+    public PairingHeap() {
+        this(null);
+    }
+
+    /**
+     * Constructs a new PairingHeap that orders its elements with the given comparator.
+     *
+     * @param comparator the comparator that orders the elements, or null for their natural ordering.
+     */
+    public PairingHeap(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+        size = 0;
+        root = null;
+    }
+
+    /**
+     * Adds the given element to the queue.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully.
+     */
+    @Override
+    public boolean add(E element) {
+        insert(element);
+
+        return true;
+    }
+
+    /**
+     * Replaces the element with the given handle by the given element, which must not be greater than it.
+     *
+     * @param handle  the handle of the element to be decreased.
+     * @param element the element to take its place.
+     */
+    public void decreaseKey(Handle<E> handle, E element) {
+        checkHandle(handle);
+
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be set cannot be null!");
+        }
+
+        if (compare(element, handle.element) > 0) {
+            throw new IllegalArgumentException("The new element cannot be greater than the current one!");
+        }
+
+        handle.element = element;
+        modCount += 1;
+
+        if (handle != root) {
+            cut(handle);
+            root = meld(root, handle);
+        }
+    }
+
+    /**
+     * Removes the element with the given handle from the queue.
+     *
+     * @param handle the handle of the element to be removed.
+     * @return the element that was removed.
+     */
+    public E delete(Handle<E> handle) {
+        checkHandle(handle);
+
+        if (handle == root) {
+            return poll();
+        }
+
+        cut(handle);
+
+        Handle<E> children = mergePairs(handle.child);
+
+        if (children != null) {
+            root = meld(root, children);
+        }
+
+        handle.child = null;
+        handle.owner = null;
+        size -= 1;
+        modCount += 1;
+
+        return handle.element;
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E element() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+
+        return root.element;
+    }
+
+    /**
+     * Adds the given element to the queue and returns a handle to it.
+     *
+     * @param element the element to be added.
+     * @return a handle to the added element, which stays valid until the element is removed from the queue.
+     */
+    public Handle<E> insert(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the queue!");
+        }
+
+        Handle<E> handle = new Handle<>(element, this);
+        root = root == null ? handle : meld(root, handle);
+
+        size += 1;
+        modCount += 1;
+
+        return handle;
+    }
+
+    /**
+     * Check if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator over the elements of the queue, in no particular order.
+     *
+     * @return an iterator for the queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new PairingHeapIterator();
+    }
+
+    /**
+     * Adds the given element to the queue.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully.
+     */
+    @Override
+    public boolean offer(E element) {
+        insert(element);
+
+        return true;
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E peek() {
+        return root == null ? null : root.element;
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E poll() {
+        if (root == null) {
+            return null;
+        }
+
+        Handle<E> oldRoot = root;
+        root = mergePairs(oldRoot.child);
+
+        oldRoot.child = null;
+        oldRoot.owner = null;
+        size -= 1;
+        modCount += 1;
+
+        return oldRoot.element;
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E remove() {
+        if (root == null) {
+            throw new NoSuchElementException();
+        }
+
+        return poll();
+    }
+
+    /**
+     * Get the current size of the queue.
+     *
+     * @return the current size of the queue.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a string representation of the PairingHeap, with the elements in no particular order.
+     *
+     * @return a string representation of the PairingHeap.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (E element : this) {
+            builder.append(element).append(", ");
+        }
+
+        builder.setLength(builder.length() - 2);
+        builder.append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Melds two heaps whose roots have no siblings, by making the root with the greater element the leftmost child of
+     * the other root.
+     */
+    private Handle<E> meld(Handle<E> first, Handle<E> second) {
+        if (compare(second.element, first.element) < 0) {
+            Handle<E> temporary = first;
+            first = second;
+            second = temporary;
+        }
+
+        second.previous = first;
+        second.next = first.child;
+
+        if (first.child != null) {
+            first.child.previous = second;
+        }
+
+        first.child = second;
+
+        return first;
+    }
+
+    /**
+     * Melds a list of siblings into a single heap. The first pass melds the siblings in pairs from left to right, and
+     * the second pass melds the pairs into one heap from right to left.
+     */
+    private Handle<E> mergePairs(Handle<E> first) {
+        if (first == null) {
+            return null;
+        }
+
+        Handle<E> pairs = null;
+        Handle<E> current = first;
+
+        while (current != null) {
+            Handle<E> left = current;
+            Handle<E> right = left.next;
+
+            if (right == null) {
+                current = null;
+            } else {
+                current = right.next;
+                right.next = null;
+                right.previous = null;
+            }
+
+            left.next = null;
+            left.previous = null;
+
+            Handle<E> pair = right == null ? left : meld(left, right);
+            pair.next = pairs;
+            pairs = pair;
+        }
+
+        Handle<E> result = pairs;
+        Handle<E> remaining = result.next;
+        result.next = null;
+
+        while (remaining != null) {
+            Handle<E> pair = remaining;
+            remaining = pair.next;
+            pair.next = null;
+
+            result = meld(result, pair);
+        }
+
+        return result;
+    }
+
+    /**
+     * Cuts the given node, together with its subtree, out of the list of children of its parent.
+     */
+    private void cut(Handle<E> handle) {
+        if (handle.previous.child == handle) {
+            handle.previous.child = handle.next;
+        } else {
+            handle.previous.next = handle.next;
+        }
+
+        if (handle.next != null) {
+            handle.next.previous = handle.previous;
+        }
+
+        handle.next = null;
+        handle.previous = null;
+    }
+
+    private void checkHandle(Handle<E> handle) {
+        if (handle == null || handle.owner != this) {
+            throw new IllegalArgumentException("The handle does not refer to an element in the queue!");
+        }
+    }
+
+    private int compare(E first, E second) {
+        if (comparator == null) {
+            return ((Comparable<? super E>) first).compareTo(second);
+        }
+
+        return comparator.compare(first, second);
+    }
+
+    /**
+     * PairingHeapIterator is a fail-fast iterator for PairingHeap, in depth-first order.
+     */
+    private class PairingHeapIterator implements Iterator<E> {
+        private final Deque<Handle<E>> pending;
+        private final int expectedModCount;
+
+        private PairingHeapIterator() {
+            pending = new ArrayDeque<>();
+            expectedModCount = modCount;
+
+            if (root != null) {
+                pending.push(root);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pending.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (pending.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+
+            Handle<E> current = pending.pop();
+
+            if (current.next != null) {
+                pending.push(current.next);
+            }
+
+            if (current.child != null) {
+                pending.push(current.child);
+            }
+
+            return current.element;
+        }
+    }
+
+    /**
+     * Handle refers to an element in a PairingHeap, and is the node of the heap that holds the element.
+     *
+     * @param <E> the type of element that the handle refers to.
+     */
+    public static final class Handle<E> {
+        private E element;
+        private PairingHeap<E> owner;
+        private Handle<E> child;
+        private Handle<E> next;
+        private Handle<E> previous;
+
+        private Handle(E element, PairingHeap<E> owner) {
+            this.element = element;
+            this.owner = owner;
+        }
+
+        /**
+         * Return the element that the handle refers to.
+         *
+         * @return the element that the handle refers to.
+         */
+        public E element() {
+            return element;
+        }
+
+        /**
+         * Check if the element that the handle refers to is still in its queue.
+         *
+         * @return true if the element is still in its queue, false if it has been removed.
+         */
+        public boolean isValid() {
+            return owner != null;
+        }
+    }
+}
@@ -0,0 +1,390 @@
+package queue;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * PriorityQueue implements an unbounded priority queue backed by an array-based d-ary heap.
+ *
+ * The head of the queue is its smallest element, according to the natural ordering of the elements or to the given
+ * comparator. The heap is binary by default; a higher arity makes the heap shallower, so an element sifts through
+ * fewer levels, and the children of a node sit next to each other in the array, so finding the smallest child reads
+ * a single run of memory. Sifting moves a hole through the heap and writes the sifted element only once it has found
+ * its place, instead of swapping it at every level.
+ *
+ * @param <E> the type of elements that the queue will hold.
+ */
+public class PriorityQueue<E> implements Queue<E>, Iterable<E> {
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_ARITY = 2;
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private final int arity;
+    private final Comparator<? super E> comparator;
+    private int size;
+    private int modCount;
+    private E[] array;
+
+    /**
+     * Constructs a new PriorityQueue that orders its elements by their natural ordering.
+     */
+    public PriorityQueue() {
+        this(DEFAULT_ARITY, null);
+    }
+
+    /**
+     * Constructs a new PriorityQueue that orders its elements with the given comparator.
+     *
+     * @param comparator the comparator that orders the elements, or null for their natural ordering.
+     */
+    public PriorityQueue(Comparator<? super E> comparator) {
+        this(DEFAULT_ARITY, comparator);
+    }
+
+    /**
+     * Constructs a new PriorityQueue backed by a heap of the given arity, that orders its elements with the given
+     * comparator.
+     *
+     * @param arity      the number of children of every node of the heap.
+     * @param comparator the comparator that orders the elements, or null for their natural ordering.
+     */
+    public PriorityQueue(int arity, Comparator<? super E> comparator) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("The arity must be at least 2!");
+        }
+
+        this.arity = arity;
+        this.comparator = comparator;
+        size = 0;
+        array = (E[]) new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Adds the given element to the queue.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully.
+     */
+    @Override
+    public boolean add(E element) {
+        return offer(element);
+    }
+
+    /**
+     * Adds all the given elements to the queue. When the elements are at least as many as the elements already in the
+     * queue, the whole heap is rebuilt bottom-up in linear time instead of sifting up every element on its own.
+     *
+     * @param elements the elements to be added.
+     * @return true if the queue changed as a result of the call.
+     */
+    public boolean addAll(E[] elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The elements to be added cannot be null!");
+        }
+
+        for (E element : elements) {
+            if (element == null) {
+                throw new IllegalArgumentException("Cannot add null elements to the queue!");
+            }
+        }
+
+        if (elements.length == 0) {
+            return false;
+        }
+
+        if (size + elements.length > array.length) {
+            growArray(size + elements.length);
+        }
+
+        if (elements.length >= size) {
+            System.arraycopy(elements, 0, array, size, elements.length);
+            size += elements.length;
+            heapify();
+        } else {
+            for (E element : elements) {
+                siftUp(size, element);
+                size += 1;
+            }
+        }
+
+        modCount += 1;
+
+        return true;
+    }
+
+    /**
+     * Clear the entire queue.
+     */
+    public void clear() {
+        Arrays.fill(array, 0, size, null);
+        size = 0;
+        modCount += 1;
+    }
+
+    /**
+     * Return the comparator that orders the elements of the queue.
+     *
+     * @return the comparator that orders the elements, or null if they are in their natural ordering.
+     */
+    public Comparator<? super E> comparator() {
+        return comparator;
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E element() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return array[0];
+    }
+
+    /**
+     * Check if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Return an iterator over the elements of the queue, in no particular order.
+     *
+     * @return an iterator for the queue.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new PriorityQueueIterator();
+    }
+
+    /**
+     * Adds the given element to the queue.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully.
+     */
+    @Override
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the queue!");
+        }
+
+        if (size == array.length) {
+            growArray(size + 1);
+        }
+
+        siftUp(size, element);
+        size += 1;
+        modCount += 1;
+
+        return true;
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E peek() {
+        return array[0];
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        E data = array[0];
+
+        size -= 1;
+        modCount += 1;
+
+        E last = array[size];
+        array[size] = null;
+
+        if (size > 0) {
+            siftDown(0, last);
+        }
+
+        return data;
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E remove() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+
+        return poll();
+    }
+
+    /**
+     * Get the current size of the queue.
+     *
+     * @return the current size of the queue.
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a string representation of the PriorityQueue, with the elements in heap order.
+     *
+     * @return a string representation of the PriorityQueue.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int i = 0; i < size - 1; i++) {
+            builder.append(array[i]).append(", ");
+        }
+
+        builder.append(array[size - 1]).append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Moves the hole at the given index up towards the root until the given element can be placed in it.
+     */
+    private void siftUp(int index, E element) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            E parentElement = array[parent];
+
+            if (compare(element, parentElement) >= 0) {
+                break;
+            }
+
+            array[index] = parentElement;
+            index = parent;
+        }
+
+        array[index] = element;
+    }
+
+    /**
+     * Moves the hole at the given index down towards the leaves until the given element can be placed in it.
+     */
+    private void siftDown(int index, E element) {
+        while (true) {
+            int firstChild = arity * index + 1;
+
+            if (firstChild >= size) {
+                break;
+            }
+
+            int lastChild = Math.min(firstChild + arity, size);
+            int smallestChild = firstChild;
+            E smallest = array[firstChild];
+
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (compare(array[child], smallest) < 0) {
+                    smallestChild = child;
+                    smallest = array[child];
+                }
+            }
+
+            if (compare(smallest, element) >= 0) {
+                break;
+            }
+
+            array[index] = smallest;
+            index = smallestChild;
+        }
+
+        array[index] = element;
+    }
+
+    /**
+     * Restores the heap order of the whole array bottom-up, which takes linear time.
+     */
+    private void heapify() {
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            siftDown(i, array[i]);
+        }
+    }
+
+    private int compare(E first, E second) {
+        if (comparator == null) {
+            return ((Comparable<? super E>) first).compareTo(second);
+        }
+
+        return comparator.compare(first, second);
+    }
+
+    private void growArray(int minimumCapacity) {
+        if (minimumCapacity < 0 || minimumCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalStateException("The queue cannot grow beyond " + MAXIMUM_CAPACITY + " elements!");
+        }
+
+        int newCapacity = (int) Math.min(Math.max(2L * array.length, minimumCapacity), MAXIMUM_CAPACITY);
+
+        array = Arrays.copyOf(array, newCapacity);
+    }
+
+    /**
+     * PriorityQueueIterator is a fail-fast iterator for PriorityQueue, in heap order.
+     */
+    private class PriorityQueueIterator implements Iterator<E> {
+        private int current;
+        private final int expectedModCount;
+
+        private PriorityQueueIterator() {
+            current = 0;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != size;
+        }
+
+        @Override
+        public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
+            if (current >= size) {
+                throw new NoSuchElementException();
+            }
+
+            E data = array[current];
+            current += 1;
+
+            return data;
+        }
+    }
+}
@@ -0,0 +1,360 @@
+package queue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * SpscArrayQueue implements a bounded, lock-free queue for exactly one producer thread and one consumer thread.
+ *
+ * Only the producer may call add, offer and fill, and only the consumer may call element, peek, poll, remove and
+ * drain. The producer and consumer indices are published with release stores and read with acquire loads, and each
+ * side caches the last index it read from the other side so that the shared cache line is only touched when the
+ * cached value runs out. The indices are separated by padding so that they never share a cache line.
+ *
+ * @param <E> the type of elements that the queue will hold.
+ */
+public class SpscArrayQueue<E> extends SpscArrayQueueConsumerFields<E> implements Queue<E> {
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    /**
+     * Constructs a new SpscArrayQueue that holds at most the given number of elements.
+     *
+     * @param capacity the maximum number of elements the queue can hold.
+     */
+    public SpscArrayQueue(int capacity) {
+        super(capacity);
+    }
+
+    /**
+     * Adds the given element to the tail of the queue. Must only be called by the producer thread.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully.
+     * @throws IllegalStateException if the queue is full.
+     */
+    @Override
+    public boolean add(E element) {
+        if (!offer(element)) {
+            throw new IllegalStateException("The queue is full!");
+        }
+
+        return true;
+    }
+
+    /**
+     * Removes up to the given number of elements from the head of the queue and passes them to the given consumer.
+     * The consumer index is published once for the whole batch. Must only be called by the consumer thread.
+     *
+     * If the consumer throws, the elements already passed to it, including the one it threw on, stay removed and the
+     * rest stay in the queue.
+     *
+     * @param consumer the consumer that each removed element is passed to.
+     * @param limit    the maximum number of elements to remove.
+     * @return the number of elements removed.
+     */
+    public int drain(Consumer<? super E> consumer, int limit) {
+        if (consumer == null) {
+            throw new IllegalArgumentException("The consumer cannot be null!");
+        }
+
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit cannot be negative!");
+        }
+
+        long index = consumerIndex;
+        long available = (long) PRODUCER_INDEX.getAcquire(this) - index;
+        int count = (int) Math.min(available, limit);
+
+        int consumed = 0;
+        consumerLimit = index + available;
+
+        try {
+            while (consumed < count) {
+                int offset = (int) (index + consumed) & mask;
+                E data = array[offset];
+                array[offset] = null;
+                consumed += 1;
+                consumer.accept(data);
+            }
+        } finally {
+            CONSUMER_INDEX.setRelease(this, index + consumed);
+        }
+
+        return count;
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it. Must only be called by the consumer thread.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E element() {
+        E data = peek();
+
+        if (data == null) {
+            throw new NoSuchElementException();
+        }
+
+        return data;
+    }
+
+    /**
+     * Adds up to the given number of elements obtained from the given supplier to the tail of the queue, stopping
+     * early if the queue becomes full. The producer index is published once for the whole batch. Must only be called
+     * by the producer thread.
+     *
+     * @param supplier the supplier that provides the elements to be added.
+     * @param limit    the maximum number of elements to add.
+     * @return the number of elements added.
+     */
+    public int fill(Supplier<? extends E> supplier, int limit) {
+        if (supplier == null) {
+            throw new IllegalArgumentException("The supplier cannot be null!");
+        }
+
+        if (limit < 0) {
+            throw new IllegalArgumentException("The limit cannot be negative!");
+        }
+
+        long index = producerIndex;
+
+        if (index + limit > producerLimit) {
+            producerLimit = (long) CONSUMER_INDEX.getAcquire(this) + capacity;
+        }
+
+        int count = (int) Math.min(producerLimit - index, limit);
+
+        for (int i = 0; i < count; i++) {
+            E element = supplier.get();
+
+            if (element == null) {
+                PRODUCER_INDEX.setRelease(this, index + i);
+                throw new IllegalArgumentException("Cannot add null elements to the queue!");
+            }
+
+            array[(int) (index + i) & mask] = element;
+        }
+
+        PRODUCER_INDEX.setRelease(this, index + count);
+
+        return count;
+    }
+
+    /**
+     * Check if the queue is empty.
+     *
+     * @return true if the queue is empty, false otherwise.
+     */
+    @Override
+    public boolean isEmpty() {
+        return (long) CONSUMER_INDEX.getAcquire(this) == (long) PRODUCER_INDEX.getAcquire(this);
+    }
+
+    /**
+     * Adds the given element to the tail of the queue if it is not full. Must only be called by the producer thread.
+     *
+     * @param element the element to be added.
+     * @return true if the element is added successfully, false if the queue is full.
+     */
+    @Override
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the queue!");
+        }
+
+        long index = producerIndex;
+
+        if (index >= producerLimit) {
+            producerLimit = (long) CONSUMER_INDEX.getAcquire(this) + capacity;
+
+            if (index >= producerLimit) {
+                return false;
+            }
+        }
+
+        array[(int) index & mask] = element;
+        PRODUCER_INDEX.setRelease(this, index + 1);
+
+        return true;
+    }
+
+    /**
+     * Return the element at the head of the queue without removing it. Must only be called by the consumer thread.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E peek() {
+        long index = consumerIndex;
+
+        if (index >= consumerLimit) {
+            consumerLimit = (long) PRODUCER_INDEX.getAcquire(this);
+
+            if (index >= consumerLimit) {
+                return null;
+            }
+        }
+
+        return array[(int) index & mask];
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it. Must only be called by the consumer thread.
+     *
+     * @return the element at the head of the queue, or null if the queue is empty.
+     */
+    @Override
+    public E poll() {
+        long index = consumerIndex;
+
+        if (index >= consumerLimit) {
+            consumerLimit = (long) PRODUCER_INDEX.getAcquire(this);
+
+            if (index >= consumerLimit) {
+                return null;
+            }
+        }
+
+        int offset = (int) index & mask;
+        E data = array[offset];
+        array[offset] = null;
+        CONSUMER_INDEX.setRelease(this, index + 1);
+
+        return data;
+    }
+
+    /**
+     * Remove the element at the head of the queue and return it. Must only be called by the consumer thread.
+     *
+     * @return the element at the head of the queue.
+     * @throws NoSuchElementException if the queue is empty.
+     */
+    @Override
+    public E remove() {
+        E data = poll();
+
+        if (data == null) {
+            throw new NoSuchElementException();
+        }
+
+        return data;
+    }
+
+    /**
+     * Get the current size of the queue. The result is only a snapshot when the queue is in use by other threads.
+     *
+     * @return the current size of the queue.
+     */
+    @Override
+    public int size() {
+        long after = (long) CONSUMER_INDEX.getAcquire(this);
+
+        while (true) {
+            long before = after;
+            long producer = (long) PRODUCER_INDEX.getAcquire(this);
+            after = (long) CONSUMER_INDEX.getAcquire(this);
+
+            if (before == after) {
+                return (int) Math.max(0, Math.min(producer - after, capacity));
+            }
+        }
+    }
+}
+
+/**
+ * SpscArrayQueueColdFields holds the fields of SpscArrayQueue that never change after construction.
+ */
+abstract class SpscArrayQueueColdFields<E> {
+    protected final int capacity;
+    protected final int mask;
+    protected final E[] array;
+
+    SpscArrayQueueColdFields(int capacity) {
+        if (capacity < 1 || capacity > 1 << 30) {
+            throw new IllegalArgumentException("The capacity must be between 1 and " + (1 << 30) + "!");
+        }
+
+        int arrayCapacity = Integer.highestOneBit(capacity) == capacity ? capacity : Integer.highestOneBit(capacity) << 1;
+
+        this.capacity = capacity;
+        this.mask = arrayCapacity - 1;
+        this.array = (E[]) new Object[arrayCapacity];
+    }
+}
+
+/**
+ * SpscArrayQueueProducerPad keeps the producer fields off the cache line of the cold fields.
+ */
+abstract class SpscArrayQueueProducerPad<E> extends SpscArrayQueueColdFields<E> {
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    SpscArrayQueueProducerPad(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * SpscArrayQueueProducerFields holds the fields written by the producer thread.
+ */
+abstract class SpscArrayQueueProducerFields<E> extends SpscArrayQueueProducerPad<E> {
+    protected static final VarHandle PRODUCER_INDEX;
+
+    static {
+        try {
+            PRODUCER_INDEX = MethodHandles.lookup()
+                    .findVarHandle(SpscArrayQueueProducerFields.class, "producerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected long producerIndex;
+    protected long producerLimit;
+
+    SpscArrayQueueProducerFields(int capacity) {
+        super(capacity);
+        producerLimit = capacity;
+    }
+}
+
+/**
+ * SpscArrayQueueConsumerPad keeps the consumer fields off the cache line of the producer fields.
+ */
+abstract class SpscArrayQueueConsumerPad<E> extends SpscArrayQueueProducerFields<E> {
+    private long p00, p01, p02, p03, p04, p05, p06, p07;
+    private long p10, p11, p12, p13, p14, p15, p16, p17;
+
+    SpscArrayQueueConsumerPad(int capacity) {
+        super(capacity);
+    }
+}
+
+/**
+ * SpscArrayQueueConsumerFields holds the fields written by the consumer thread.
+ */
+abstract class SpscArrayQueueConsumerFields<E> extends SpscArrayQueueConsumerPad<E> {
+    protected static final VarHandle CONSUMER_INDEX;
+
+    static {
+        try {
+            CONSUMER_INDEX = MethodHandles.lookup()
+                    .findVarHandle(SpscArrayQueueConsumerFields.class, "consumerIndex", long.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    protected long consumerIndex;
+    protected long consumerLimit;
+
+    SpscArrayQueueConsumerFields(int capacity) {
+        super(capacity);
+    }
+}
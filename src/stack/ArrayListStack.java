@@ -1,24 +1,46 @@
 package stack;
 
-import list.ArrayList;
-
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
 import java.util.EmptyStackException;
 import java.util.Iterator;
 import java.util.NoSuchElementException;
 
 /**
- * ArrayListStack implements a stack backed by an ArrayList.
+ * ArrayListStack implements a stack backed by a dynamic array.
+ *
+ * The stack owns its array directly rather than going through an ArrayList, so pushing and popping are a single array
+ * store or load, and its iterator walks the array from the top down without any per-element method calls.
  *
  * @param <E> the type of elements that the stack will hold.
  */
 public class ArrayListStack<E> implements Stack<E>, Iterable<E> {
-    private final ArrayList<E> arrayList;
+    private static final int DEFAULT_CAPACITY = 10;
+    private static final int MAXIMUM_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int size;
+    private int modCount;
+    private E[] array;
 
     /**
      * Constructs a new ArrayListStack.
      */
     public ArrayListStack() {
-        arrayList = new ArrayList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new ArrayListStack that can hold the given number of elements before growing.
+     *
+     * @param initialCapacity the number of elements the stack can hold before growing.
+     */
+    public ArrayListStack(int initialCapacity) {
+        if (initialCapacity < 0 || initialCapacity > MAXIMUM_CAPACITY) {
+            throw new IllegalArgumentException("The initial capacity must be between 0 and " + MAXIMUM_CAPACITY + "!");
+        }
+
+        size = 0;
+        array = (E[]) new Object[initialCapacity];
     }
 
     /**
@@ -28,11 +50,11 @@ public class ArrayListStack<E> implements Stack<E>, Iterable<E> {
      */
     @Override
     public boolean empty() {
-        return arrayList.isEmpty();
+        return size == 0;
     }
 
     /**
-     * Return an iterator for the stack.
+     * Return an iterator for the stack, from the top to the bottom.
      *
      * @return an iterator for the stack.
      */
@@ -48,11 +70,11 @@ public class ArrayListStack<E> implements Stack<E>, Iterable<E> {
      */
     @Override
     public E peek() {
-        if (arrayList.isEmpty()) {
+        if (size == 0) {
             throw new EmptyStackException();
         }
 
-        return arrayList.get(arrayList.size() - 1);
+        return array[size - 1];
     }
 
     /**
@@ -62,11 +84,43 @@ public class ArrayListStack<E> implements Stack<E>, Iterable<E> {
      */
     @Override
     public E pop() {
-        if (arrayList.isEmpty()) {
+        if (size == 0) {
             throw new EmptyStackException();
         }
 
-        return arrayList.remove(arrayList.size() - 1);
+        size -= 1;
+        modCount += 1;
+
+        E data = array[size];
+        array[size] = null;
+
+        return data;
+    }
+
+    /**
+     * Remove up to the given number of elements from the top of the stack, and copy them into the given array starting
+     * at index 0, in the order in which they are popped.
+     *
+     * @param destination the array into which the popped elements are to be copied.
+     * @param count       the maximum number of elements to be popped.
+     * @return the number of elements popped, which is less than count if the stack runs out of elements.
+     */
+    public int pop(E[] destination, int count) {
+        if (destination == null || count < 0 || count > destination.length) {
+            throw new IllegalArgumentException("The destination array must be able to hold count elements!");
+        }
+
+        int popped = Math.min(count, size);
+
+        for (int i = 0; i < popped; i++) {
+            destination[i] = array[size - 1 - i];
+        }
+
+        Arrays.fill(array, size - popped, size, null);
+        size -= popped;
+        modCount += 1;
+
+        return popped;
     }
 
     /**
@@ -81,11 +135,43 @@ public class ArrayListStack<E> implements Stack<E>, Iterable<E> {
             throw new IllegalArgumentException("Cannot add null elements to the stack!");
         }
 
-        arrayList.add(element);
+        if (size == array.length) {
+            growArray(size + 1);
+        }
+
+        array[size] = element;
+        size += 1;
+        modCount += 1;
 
         return element;
     }
 
+    /**
+     * Push all the given elements on to the stack in order, so that the last element ends up at the top of the stack.
+     * The array is grown at most once.
+     *
+     * @param elements the elements to be pushed on to the stack.
+     */
+    public void pushAll(E[] elements) {
+        if (elements == null) {
+            throw new IllegalArgumentException("The elements to be pushed cannot be null!");
+        }
+
+        for (E element : elements) {
+            if (element == null) {
+                throw new IllegalArgumentException("Cannot add null elements to the stack!");
+            }
+        }
+
+        if (size + elements.length > array.length) {
+            growArray(size + elements.length);
+        }
+
+        System.arraycopy(elements, 0, array, size, elements.length);
+        size += elements.length;
+        modCount += 1;
+    }
+
     /**
      * Check if the given element exists within the stack.
      *
@@ -98,13 +184,13 @@ public class ArrayListStack<E> implements Stack<E>, Iterable<E> {
             throw new IllegalArgumentException("The element to be searched cannot be null!");
         }
 
-        int index = arrayList.indexOf(element);
-
-        if (index == -1) {
-            return -1;
+        for (int i = size - 1; i >= 0; i--) {
+            if (array[i].equals(element)) {
+                return size - i;
+            }
         }
 
-        return arrayList.size() - index;
+        return -1;
     }
 
     /**
@@ -114,17 +200,52 @@ public class ArrayListStack<E> implements Stack<E>, Iterable<E> {
      */
     @Override
     public int size() {
-        return arrayList.size();
+        return size;
     }
 
     /**
-     * ArrayListStackIterator is an iterator for ArrayListStack.
+     * Return a string representation of the ArrayListStack, from the top to the bottom.
+     *
+     * @return a string representation of the ArrayListStack.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int i = size - 1; i > 0; i--) {
+            builder.append(array[i]).append(", ");
+        }
+
+        builder.append(array[0]).append("]");
+
+        return builder.toString();
+    }
+
+    private void growArray(int minimumCapacity) {
+        if (minimumCapacity < 0 || minimumCapacity > MAXIMUM_CAPACITY) {
+            throw new OutOfMemoryError("The stack cannot grow beyond " + MAXIMUM_CAPACITY + " elements!");
+        }
+
+        int newCapacity = (int) Math.min(Math.max(2L * array.length, minimumCapacity), MAXIMUM_CAPACITY);
+
+        array = Arrays.copyOf(array, newCapacity);
+    }
+
+    /**
+     * ArrayListStackIterator is a fail-fast iterator for ArrayListStack, from the top to the bottom.
      */
     private class ArrayListStackIterator implements Iterator<E> {
         private int currentIndex;
+        private final int expectedModCount;
 
-        public ArrayListStackIterator() {
-            currentIndex = arrayList.size() - 1;
+        private ArrayListStackIterator() {
+            currentIndex = size - 1;
+            expectedModCount = modCount;
         }
 
         @Override
@@ -134,13 +255,18 @@ public class ArrayListStack<E> implements Stack<E>, Iterable<E> {
 
         @Override
         public E next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+
             if (currentIndex < 0) {
                 throw new NoSuchElementException();
             }
 
+            E data = array[currentIndex];
             currentIndex -= 1;
 
-            return arrayList.get(currentIndex + 1);
+            return data;
         }
     }
 }
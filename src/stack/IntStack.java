@@ -0,0 +1,228 @@
+package stack;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+/**
+ * IntStack implements a stack of unboxed int values backed by an array.
+ */
+public class IntStack {
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private int size;
+    private int[] array;
+
+    /**
+     * Constructs a new IntStack.
+     */
+    public IntStack() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a new IntStack that can hold the given number of elements before growing.
+     *
+     * @param initialCapacity the number of elements the stack can hold before growing.
+     */
+    public IntStack(int initialCapacity) {
+        if (initialCapacity < 0) {
+            throw new IllegalArgumentException("The initial capacity cannot be negative!");
+        }
+
+        size = 0;
+        array = new int[initialCapacity];
+    }
+
+    /**
+     * Clear the entire stack.
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Check if the stack is empty.
+     *
+     * @return true if the stack is empty, false otherwise.
+     */
+    public boolean empty() {
+        return size == 0;
+    }
+
+    /**
+     * Grows the stack, if necessary, so that it can hold at least the given number of elements without growing again.
+     *
+     * @param minimumCapacity the number of elements the stack must be able to hold.
+     */
+    public void ensureCapacity(int minimumCapacity) {
+        if (minimumCapacity > array.length) {
+            resizeArray(minimumCapacity);
+        }
+    }
+
+    /**
+     * Return an iterator for the stack, from the top to the bottom.
+     *
+     * @return an iterator for the stack.
+     */
+    public PrimitiveIterator.OfInt iterator() {
+        return new IntStackIterator();
+    }
+
+    /**
+     * Return the element at the top of the stack without removing it.
+     *
+     * @return the element at the top of the stack.
+     */
+    public int peek() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+
+        return array[size - 1];
+    }
+
+    /**
+     * Remove the element at the top of the stack and return it.
+     *
+     * @return the element at the top of the stack.
+     */
+    public int pop() {
+        if (size == 0) {
+            throw new EmptyStackException();
+        }
+
+        size -= 1;
+
+        return array[size];
+    }
+
+    /**
+     * Remove up to the given number of elements from the top of the stack, and copy them into the given array starting
+     * at index 0, in the order in which they are popped.
+     *
+     * @param destination the array into which the popped elements are to be copied.
+     * @param count       the maximum number of elements to be popped.
+     * @return the number of elements popped, which is less than count if the stack runs out of elements.
+     */
+    public int pop(int[] destination, int count) {
+        if (destination == null || count < 0 || count > destination.length) {
+            throw new IllegalArgumentException("The destination array must be able to hold count elements!");
+        }
+
+        int popped = Math.min(count, size);
+
+        for (int i = 0; i < popped; i++) {
+            destination[i] = array[size - 1 - i];
+        }
+
+        size -= popped;
+
+        return popped;
+    }
+
+    /**
+     * Push an element on to the top of the stack.
+     *
+     * @param element the element to be pushed on to the top of the stack.
+     * @return the element that was pushed on to the top of the stack.
+     */
+    public int push(int element) {
+        if (size == array.length) {
+            resizeArray(size + 1);
+        }
+
+        array[size] = element;
+        size += 1;
+
+        return element;
+    }
+
+    /**
+     * Check if the given element exists within the stack.
+     *
+     * @param element the element to be searched for in the stack.
+     * @return the distance from the top of the stack if the element exists in the stack, -1 otherwise.
+     */
+    public int search(int element) {
+        for (int i = size - 1; i >= 0; i--) {
+            if (array[i] == element) {
+                return size - i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Get the current size of the stack.
+     *
+     * @return the current size of the stack.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Return a string representation of the IntStack, from the top to the bottom.
+     *
+     * @return a string representation of the IntStack.
+     */
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        for (int i = size - 1; i > 0; i--) {
+            builder.append(array[i]).append(", ");
+        }
+
+        builder.append(array[0]).append("]");
+
+        return builder.toString();
+    }
+
+    private void resizeArray(int minimumCapacity) {
+        int newCapacity = Math.max(array.length * 2, minimumCapacity);
+
+        if (newCapacity < 0) {
+            newCapacity = Integer.MAX_VALUE - 8;
+        }
+
+        array = Arrays.copyOf(array, newCapacity);
+    }
+
+    /**
+     * IntStackIterator is an iterator for IntStack, from the top to the bottom.
+     */
+    private class IntStackIterator implements PrimitiveIterator.OfInt {
+        private int current;
+
+        private IntStackIterator() {
+            current = size - 1;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current >= 0;
+        }
+
+        @Override
+        public int nextInt() {
+            if (current < 0) {
+                throw new NoSuchElementException();
+            }
+
+            int data = array[current];
+            current -= 1;
+
+            return data;
+        }
+    }
+}
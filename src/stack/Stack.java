@@ -1,6 +1,11 @@
 package stack;
 
-public interface Stack<E> {
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public interface Stack<E> extends Iterable<E> {
     boolean empty();
 
     E peek();
@@ -12,4 +17,33 @@ public interface Stack<E> {
     int search(E element);
 
     int size();
+
+    /**
+     * Return a spliterator for the stack, from the top to the bottom. The default spliterator knows the size of the
+     * stack and splits off batches of elements that it copies out of the iterator.
+     *
+     * @return a spliterator for the stack.
+     */
+    @Override
+    default Spliterator<E> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Return a sequential stream over the elements of the stack, from the top to the bottom.
+     *
+     * @return a sequential stream over the elements of the stack.
+     */
+    default Stream<E> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Return a parallel stream over the elements of the stack, from the top to the bottom.
+     *
+     * @return a parallel stream over the elements of the stack.
+     */
+    default Stream<E> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
 }
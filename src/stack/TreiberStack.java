@@ -0,0 +1,318 @@
+package stack;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TreiberStack implements an unbounded, lock-free stack for any number of threads.
+ *
+ * The stack is a singly linked list whose top is swung with a compare-and-set. A thread whose compare-and-set fails
+ * because of contention does not retry straight away, but visits a random slot of an elimination array first: a push
+ * leaves its node in the slot for a short while, and a pop that finds a node in a slot takes it. A push and a pop that
+ * meet in this way cancel each other out without ever touching the top of the stack, so contention on the top drops as
+ * the number of threads grows.
+ *
+ * Every node records the size of the stack from itself downwards, so the size of the stack is read from its top node
+ * in constant time. The iterator and search work on the stack as it was when they read its top.
+ *
+ * @param <E> the type of elements that the stack will hold.
+ */
+public class TreiberStack<E> implements Stack<E>, Iterable<E> {
+    private static final VarHandle TOP;
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+    private static final int ELIMINATION_SPINS = 64;
+
+    static {
+        try {
+            TOP = MethodHandles.lookup().findVarHandle(TreiberStack.class, "top", Node.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Object[] eliminationSlots;
+    private volatile Node<E> top;
+
+    /**
+     * Constructs a new TreiberStack with one elimination slot for every two available processors.
+     */
+    public TreiberStack() {
+        this(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /**
+     * Constructs a new TreiberStack with the given number of elimination slots. With no slots, contended operations
+     * simply retry on the top of the stack.
+     *
+     * @param eliminationWidth the number of elimination slots.
+     */
+    public TreiberStack(int eliminationWidth) {
+        if (eliminationWidth < 0) {
+            throw new IllegalArgumentException("The elimination width cannot be negative!");
+        }
+
+        eliminationSlots = new Object[eliminationWidth];
+        top = null;
+    }
+
+    /**
+     * Check if the stack is empty.
+     *
+     * @return true if the list is empty, false otherwise.
+     */
+    @Override
+    public boolean empty() {
+        return top == null;
+    }
+
+    /**
+     * Return an iterator over the stack, from the top to the bottom, as it was when this method was called.
+     *
+     * @return an iterator for the stack.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new TreiberStackIterator(top);
+    }
+
+    /**
+     * Return the element at the top of the stack without removing it.
+     *
+     * @return the element at the top of the stack.
+     */
+    @Override
+    public E peek() {
+        Node<E> current = top;
+
+        if (current == null) {
+            throw new EmptyStackException();
+        }
+
+        return current.data;
+    }
+
+    /**
+     * Remove the element at the top of the stack and return it.
+     *
+     * @return the element at the top of the stack.
+     */
+    @Override
+    public E pop() {
+        E data = poll();
+
+        if (data == null) {
+            throw new EmptyStackException();
+        }
+
+        return data;
+    }
+
+    /**
+     * Remove the element at the top of the stack and return it, if the stack is not empty. Unlike checking empty
+     * before calling pop, this cannot fail because another thread emptied the stack in between.
+     *
+     * @return the element at the top of the stack, or null if the stack is empty.
+     */
+    public E poll() {
+        while (true) {
+            Node<E> current = top;
+
+            if (current == null) {
+                return null;
+            }
+
+            if (TOP.compareAndSet(this, current, current.next)) {
+                return current.data;
+            }
+
+            E data = eliminatePop();
+
+            if (data != null) {
+                return data;
+            }
+        }
+    }
+
+    /**
+     * Push an element on to the top of the stack.
+     *
+     * @param element the element to be pushed on to the top of the stack.
+     * @return the element that was pushed on to the top of the stack.
+     */
+    @Override
+    public E push(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("Cannot add null elements to the stack!");
+        }
+
+        Node<E> node = new Node<>(element);
+
+        while (true) {
+            Node<E> current = top;
+            node.next = current;
+            node.size = current == null ? 1 : current.size + 1;
+
+            if (TOP.compareAndSet(this, current, node) || eliminatePush(node)) {
+                return element;
+            }
+        }
+    }
+
+    /**
+     * Check if the given element exists within the stack.
+     *
+     * @param element the element to be searched for in the stack.
+     * @return the distance from the top of the stack if the element exists in the stack, -1 otherwise.
+     */
+    @Override
+    public int search(E element) {
+        if (element == null) {
+            throw new IllegalArgumentException("The element to be searched cannot be null!");
+        }
+
+        int distance = 1;
+
+        for (Node<E> current = top; current != null; current = current.next) {
+            if (current.data.equals(element)) {
+                return distance;
+            }
+
+            distance += 1;
+        }
+
+        return -1;
+    }
+
+    /**
+     * Get the current size of the stack.
+     *
+     * @return the current size of the stack.
+     */
+    @Override
+    public int size() {
+        Node<E> current = top;
+
+        return current == null ? 0 : current.size;
+    }
+
+    /**
+     * Return a string representation of the TreiberStack, from the top to the bottom.
+     *
+     * @return a string representation of the TreiberStack.
+     */
+    @Override
+    public String toString() {
+        Node<E> current = top;
+
+        if (current == null) {
+            return "[]";
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("[");
+
+        while (current.next != null) {
+            builder.append(current.data).append(", ");
+            current = current.next;
+        }
+
+        builder.append(current.data).append("]");
+
+        return builder.toString();
+    }
+
+    /**
+     * Offers the given node to a pop in a random elimination slot, and waits a short while for a pop to take it.
+     *
+     * @return true if a pop took the node, false if the push has to be retried on the top of the stack.
+     */
+    private boolean eliminatePush(Node<E> node) {
+        if (eliminationSlots.length == 0) {
+            return false;
+        }
+
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length);
+
+        if (!SLOT.compareAndSet(eliminationSlots, slot, null, node)) {
+            return false;
+        }
+
+        for (int i = 0; i < ELIMINATION_SPINS; i++) {
+            if (SLOT.getVolatile(eliminationSlots, slot) != node) {
+                return true;
+            }
+
+            Thread.onSpinWait();
+        }
+
+        return !SLOT.compareAndSet(eliminationSlots, slot, node, null);
+    }
+
+    /**
+     * Takes the node that a push left in a random elimination slot, if there is one.
+     *
+     * @return the element of the push that was taken, or null if the pop has to be retried on the top of the stack.
+     */
+    private E eliminatePop() {
+        if (eliminationSlots.length == 0) {
+            return null;
+        }
+
+        int slot = ThreadLocalRandom.current().nextInt(eliminationSlots.length);
+        Object node = SLOT.getVolatile(eliminationSlots, slot);
+
+        if (node != null && SLOT.compareAndSet(eliminationSlots, slot, node, null)) {
+            return ((Node<E>) node).data;
+        }
+
+        return null;
+    }
+
+    /**
+     * TreiberStackIterator is an iterator over a TreiberStack, from the top to the bottom.
+     */
+    private class TreiberStackIterator implements Iterator<E> {
+        private Node<E> current;
+
+        private TreiberStackIterator(Node<E> top) {
+            current = top;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return current != null;
+        }
+
+        @Override
+        public E next() {
+            if (current == null) {
+                throw new NoSuchElementException();
+            }
+
+            E data = current.data;
+            current = current.next;
+
+            return data;
+        }
+    }
+
+    /**
+     * Node represents a node in a TreiberStack. Its next and size fields are only written before the node is
+     * published by a compare-and-set, and never change afterwards.
+     *
+     * @param <E> the type of data that the node will hold.
+     */
+    private static class Node<E> {
+        private final E data;
+        private Node<E> next;
+        private int size;
+
+        private Node(E data) {
+            this.data = data;
+        }
+    }
+}